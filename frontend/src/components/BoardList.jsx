@@ -17,13 +17,14 @@ const BoardList = ({ boards, onBoardClick }) => {
                             <div className="board-meta">
                                 <span className="board-id">#{board.id}</span>
                                 <span className="board-view-count">👁 {board.viewCount || 0}</span>
+                                <span className="board-comment-count">💬 {board.commentCount || 0}</span>
                                 <span className="board-author">{board.registrant}</span>
                                 <span className="board-date">
                                     {new Date(board.registeredDateTime).toLocaleDateString()}
                                 </span>
                             </div>
                         </div>
-                        <div className="board-content">{board.content}</div>
+                        <div className="board-content">{board.excerpt ?? board.content}</div>
                     </div>
                 ))
             )}
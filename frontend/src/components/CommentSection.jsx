@@ -1,6 +1,6 @@
 import React from 'react';
 
-const CommentSection = ({ comments, newComment, onCommentChange, onCommentSubmit }) => {
+const CommentSection = ({ comments, newComment, onCommentChange, onCommentSubmit, hasMoreComments, onLoadMoreComments }) => {
     return (
         <div className="comments-section">
             <h3>💬 댓글 ({comments.length}개)</h3>
@@ -18,6 +18,12 @@ const CommentSection = ({ comments, newComment, onCommentChange, onCommentSubmit
                 ))}
             </div>
 
+            {hasMoreComments && (
+                <button type="button" onClick={onLoadMoreComments} className="comment-more-btn">
+                    이전 댓글 더 보기
+                </button>
+            )}
+
             {/* 댓글 작성 폼 */}
             <form onSubmit={onCommentSubmit} className="comment-form">
                 <textarea
@@ -7,6 +7,7 @@ const BoardDetailPage = () => {
     const navigate = useNavigate();
     const [board, setBoard] = useState(null);
     const [comments, setComments] = useState([]);
+    const [commentCursor, setCommentCursor] = useState(null);
     const [newComment, setNewComment] = useState('');
     const [loading, setLoading] = useState(true);
     const [error, setError] = useState(null);
@@ -43,11 +44,28 @@ const BoardDetailPage = () => {
             const response = await fetch(`/api/boards/${boardId}/comments`);
             const commentsData = await response.json();
             setComments(commentsData);
+            setCommentCursor(response.headers.get('X-Next-Cursor'));
         } catch (error) {
             console.error('댓글 로드 실패:', error);
         }
     };
 
+    // 💬 이전 댓글 더 보기 (키셋 커서)
+    const loadMoreComments = async () => {
+        if (!commentCursor) return;
+        try {
+            const response = await fetch(`/api/boards/${boardId}/comments?before=${commentCursor}`);
+            const olderComments = await response.json();
+            setComments(prevComments => [
+                ...prevComments,
+                ...olderComments.filter(older => !prevComments.some(comment => comment.id === older.id))
+            ]);
+            setCommentCursor(response.headers.get('X-Next-Cursor'));
+        } catch (error) {
+            console.error('이전 댓글 로드 실패:', error);
+        }
+    };
+
     const setupEventSource = () => {
         const eventSource = new EventSource(`/api/boards/${boardId}/comments/stream`);
         
@@ -152,6 +170,7 @@ const BoardDetailPage = () => {
                         <span>작성자: {board.registrant}</span>
                         <span>작성일: {new Date(board.registeredDateTime).toLocaleString()}</span>
                         <span>조회수: 👁 {board.viewCount || 0}</span>
+                        <span>댓글: 💬 {board.commentCount || 0}</span>
                     </div>
                     <div className="detail-body">{board.content}</div>
                 </div>
@@ -161,6 +180,8 @@ const BoardDetailPage = () => {
                     newComment={newComment}
                     onCommentChange={handleCommentChange}
                     onCommentSubmit={handleAddComment}
+                    hasMoreComments={!!commentCursor}
+                    onLoadMoreComments={loadMoreComments}
                 />
             </div>
         </div>
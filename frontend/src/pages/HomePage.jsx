@@ -10,7 +10,7 @@ const HomePage = () => {
     const [isLoading, setIsLoading] = useState(true);
     const [isLoadingMore, setIsLoadingMore] = useState(false);
     const [hasMore, setHasMore] = useState(true);
-    const [page, setPage] = useState(0);
+    const [nextCursor, setNextCursor] = useState(null);
     const eventSourceRef = useRef(null);
 
     // 🔐 인증 상태 관리
@@ -67,13 +67,14 @@ const HomePage = () => {
     const loadInitialBoards = async () => {
         try {
             setIsLoading(true);
-            const response = await fetch(`/api/boards?page=0&size=${PAGE_SIZE}`);
+            const response = await fetch(`/api/boards?size=${PAGE_SIZE}`);
             
             if (response.ok) {
                 const initialBoards = await response.json();
+                const cursor = response.headers.get('X-Next-Cursor');
                 setBoards(initialBoards);
-                setPage(1); // 다음 페이지 준비
-                setHasMore(initialBoards.length === PAGE_SIZE); // 더 있는지 확인
+                setNextCursor(cursor); // 다음 페이지 커서
+                setHasMore(cursor !== null); // 더 있는지 확인
                 console.log(`📄 초기 게시글 로드 완료: ${initialBoards.length}개`);
             } else {
                 setError('게시글을 불러올 수 없습니다.');
@@ -88,20 +89,21 @@ const HomePage = () => {
 
     // 📜 더 많은 게시글 로드 (무한스크롤)
     const loadMoreBoards = useCallback(async () => {
-        if (isLoadingMore || !hasMore) return;
+        if (isLoadingMore || !hasMore || !nextCursor) return;
 
         try {
             setIsLoadingMore(true);
-            const response = await fetch(`/api/boards?page=${page}&size=${PAGE_SIZE}`);
+            const response = await fetch(`/api/boards?before=${nextCursor}&size=${PAGE_SIZE}`);
             
             if (response.ok) {
                 const moreBoards = await response.json();
+                const cursor = response.headers.get('X-Next-Cursor');
                 
                 if (moreBoards.length > 0) {
                     setBoards(prev => [...prev, ...moreBoards]);
-                    setPage(prev => prev + 1);
-                    setHasMore(moreBoards.length === PAGE_SIZE);
-                    console.log(`📜 페이지 ${page} 로드: ${moreBoards.length}개 추가`);
+                    setNextCursor(cursor);
+                    setHasMore(cursor !== null);
+                    console.log(`📜 커서 ${nextCursor} 이후 로드: ${moreBoards.length}개 추가`);
                 } else {
                     setHasMore(false);
                     console.log('📜 더 이상 게시글이 없습니다');
@@ -112,7 +114,7 @@ const HomePage = () => {
         } finally {
             setIsLoadingMore(false);
         }
-    }, [page, isLoadingMore, hasMore]);
+    }, [nextCursor, isLoadingMore, hasMore]);
 
     // 📡 새 게시글 실시간 스트림 (SSE)
     const setupNewPostStream = () => {
@@ -127,10 +129,27 @@ const HomePage = () => {
             const newPost = JSON.parse(event.data);
             console.log('📡 새 게시글 수신:', newPost.title);
             
-            // 새 게시글을 맨 앞에 추가
-            setBoards(prev => [newPost, ...prev]);
+            // 새 게시글을 맨 앞에 추가 (재연결 시 이어받은 게시글 중복 제외)
+            setBoards(prev => prev.some(board => board.id === newPost.id) ? prev : [newPost, ...prev]);
         };
 
+        // 일괄 등록은 chunk 마다 게시글 요약 묶음(최신순)으로 한 번에 옴
+        eventSource.addEventListener('bulk', (event) => {
+            const { boards: newPosts } = JSON.parse(event.data);
+            console.log('📡 새 게시글 일괄 수신:', newPosts.length + '건');
+
+            setBoards(prev => {
+                const knownIds = new Set(prev.map(board => board.id));
+                return [...newPosts.filter(post => !knownIds.has(post.id)), ...prev];
+            });
+        });
+
+        // 끊긴 동안 놓친 게시글이 너무 많으면 서버가 reset 을 보냄 → 목록을 처음부터 다시 로드
+        eventSource.addEventListener('reset', () => {
+            console.log('📡 놓친 게시글이 많아 목록을 새로 불러옵니다');
+            loadInitialBoards();
+        });
+
         eventSource.onerror = (error) => {
             console.error('📡 실시간 연결 실패:', error);
         };
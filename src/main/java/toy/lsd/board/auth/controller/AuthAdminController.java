@@ -0,0 +1,39 @@
+package toy.lsd.board.auth.controller;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import toy.lsd.board.config.LoginRateLimitFilter;
+import toy.lsd.board.member.service.PasswordHasher;
+
+/**
+ * 🛠️ 인증 운영용 컨트롤러 - ADMIN 권한만 허용
+ */
+@RestController
+@RequestMapping("/api/admin/auth")
+@PreAuthorize("hasRole('ADMIN')")  // 👑 ADMIN 권한만 허용
+@RequiredArgsConstructor
+public class AuthAdminController {
+	private final PasswordHasher passwordHasher;
+	private final LoginRateLimitFilter loginRateLimitFilter;
+
+	/**
+	 * 📈 비밀번호 해시 실행기 지표 (큐 대기 시간, 해시 시간, 거절 수)
+	 */
+	@GetMapping("/metrics/password-hashing")
+	public Mono<PasswordHasher.Stats> getPasswordHashingMetrics() {
+		return Mono.fromSupplier(passwordHasher::stats);
+	}
+
+	/**
+	 * 📈 로그인 시도 제한 지표 (주소/로그인 ID별 활성 버킷, 거절 수)
+	 */
+	@GetMapping("/metrics/login-rate-limit")
+	public Mono<LoginRateLimitFilter.Stats> getLoginRateLimitMetrics() {
+		return Mono.fromSupplier(loginRateLimitFilter::stats);
+	}
+}
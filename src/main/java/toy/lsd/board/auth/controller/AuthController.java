@@ -2,13 +2,15 @@ package toy.lsd.board.auth.controller;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 import toy.lsd.board.config.JwtUtil;
+import toy.lsd.board.member.entity.Member;
 import toy.lsd.board.member.service.MemberService;
+import toy.lsd.board.member.service.PasswordHasher;
 
 import java.util.List;
 
@@ -21,7 +23,7 @@ import java.util.List;
 public class AuthController {
 
     private final MemberService memberService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
 
     /**
@@ -31,19 +33,21 @@ public class AuthController {
     public Mono<ResponseEntity<LoginResponse>> login(@RequestBody LoginRequest request) {
         return memberService.findByUsername(request.id())
             .cast(UserDetails.class)
-            .flatMap(userDetails -> {
-                if (passwordEncoder.matches(request.password(), userDetails.getPassword())) {
-                    List<String> roles = userDetails.getAuthorities().stream()
-                        .map(authority -> authority.getAuthority().replace("ROLE_", ""))
-                        .toList();
-                    
-                    String token = jwtUtil.generateToken(userDetails.getUsername(), roles);
-                    return Mono.just(ResponseEntity.ok(new LoginResponse(token, userDetails.getUsername(), roles, null)));
-                } else {
-                    return Mono.just(ResponseEntity.status(401)
-                        .body(new LoginResponse(null, null, null, "Invalid credentials")));
-                }
-            })
+            .flatMap(userDetails -> passwordHasher.matches(request.password(), userDetails.getPassword())
+                .map(matched -> {
+                    if (matched) {
+                        List<String> roles = userDetails.getAuthorities().stream()
+                            .map(authority -> authority.getAuthority().replace("ROLE_", ""))
+                            .toList();
+                        
+                        String name = userDetails instanceof Member member ? member.getName() : userDetails.getUsername();
+                        String token = jwtUtil.generateToken(userDetails.getUsername(), name, roles);
+                        return ResponseEntity.ok(new LoginResponse(token, userDetails.getUsername(), roles, null));
+                    } else {
+                        return ResponseEntity.status(401)
+                            .body(new LoginResponse(null, null, null, "Invalid credentials"));
+                    }
+                }))
             .switchIfEmpty(
                 Mono.just(ResponseEntity.status(401)
                     .body(new LoginResponse(null, null, null, "User not found")))
@@ -57,7 +61,8 @@ public class AuthController {
     public Mono<ResponseEntity<String>> register(@RequestBody RegisterRequest request) {
         return memberService.createMember(request.id(), request.name(), request.password(), "USER")
             .map(member -> ResponseEntity.ok("회원가입 성공: " + member.getName() + " (ID: " + member.getId() + ")"))
-            .onErrorReturn(ResponseEntity.badRequest().body("회원가입 실패"));
+            // 해시 실행기 포화(503)는 그대로 전달
+            .onErrorReturn(error -> !(error instanceof ResponseStatusException), ResponseEntity.badRequest().body("회원가입 실패"));
     }
 
     public record LoginRequest(String id, String password) {}
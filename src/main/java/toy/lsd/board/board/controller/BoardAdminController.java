@@ -0,0 +1,107 @@
+package toy.lsd.board.board.controller;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import toy.lsd.board.board.service.BoardDetailCache;
+import toy.lsd.board.board.service.NewPostEventStream;
+import toy.lsd.board.board.service.UniqueViewerService;
+import toy.lsd.board.board.service.ViewCountBuffer;
+import toy.lsd.board.board.service.ViewCountReconciler;
+import toy.lsd.board.board.service.ViewLogRollupJob;
+import toy.lsd.board.common.LocalCache;
+import toy.lsd.board.common.SingleFlight;
+import toy.lsd.board.common.SubscriberQueue;
+
+/**
+ * 🛠️ 게시판 운영용 컨트롤러 - ADMIN 권한만 허용
+ */
+@RestController
+@RequestMapping("/api/admin/boards")
+@PreAuthorize("hasRole('ADMIN')")  // 👑 ADMIN 권한만 허용
+@RequiredArgsConstructor
+public class BoardAdminController {
+	private final ViewCountBuffer viewCountBuffer;
+	private final ViewCountReconciler viewCountReconciler;
+	private final BoardDetailCache boardDetailCache;
+	private final ViewLogRollupJob viewLogRollupJob;
+	private final NewPostEventStream newPostEventStream;
+	private final UniqueViewerService uniqueViewerService;
+
+	/**
+	 * 📈 조회수 write-behind 지표 (미반영 조회수, 플러시 지연)
+	 */
+	@GetMapping("/metrics/view-count")
+	public Mono<ViewCountBuffer.Stats> getViewCountMetrics() {
+		return Mono.fromSupplier(viewCountBuffer::stats);
+	}
+
+	/**
+	 * 📈 게시글 상세 캐시 지표 (hit/miss/eviction)
+	 */
+	@GetMapping("/metrics/detail-cache")
+	public Mono<LocalCache.Stats> getDetailCacheMetrics() {
+		return Mono.fromSupplier(boardDetailCache::stats);
+	}
+
+	/**
+	 * 📈 고유 조회자 스케치 캐시 지표 (메모리에 올라온 게시글 수, 밀려난 스케치)
+	 */
+	@GetMapping("/metrics/unique-viewers-cache")
+	public Mono<LocalCache.Stats> getUniqueViewersCacheMetrics() {
+		return Mono.fromSupplier(uniqueViewerService::cacheStats);
+	}
+
+	/**
+	 * 📈 게시글 상세 로딩 합치기 지표 (실제 DB 조회 vs 합류한 요청)
+	 */
+	@GetMapping("/metrics/detail-loads")
+	public Mono<SingleFlight.Stats> getDetailLoadMetrics() {
+		return Mono.fromSupplier(boardDetailCache::loadStats);
+	}
+
+	/**
+	 * 🔁 조회수 카운터 1회성 백필
+	 */
+	@PostMapping("/view-counts/backfill")
+	public Mono<Long> backfillViewCounts() {
+		return viewCountReconciler.backfill();
+	}
+
+	/**
+	 * 🔁 조회수 카운터 정합성 보정 즉시 실행
+	 */
+	@PostMapping("/view-counts/reconcile")
+	public Mono<Long> reconcileViewCounts() {
+		return viewCountReconciler.reconcile();
+	}
+
+	/**
+	 * 📈 조회 로그 롤업 지표
+	 */
+	@GetMapping("/metrics/view-log-rollup")
+	public Mono<ViewLogRollupJob.Stats> getViewLogRollupMetrics() {
+		return Mono.fromSupplier(viewLogRollupJob::stats);
+	}
+
+	/**
+	 * 🗜️ 보존 기간이 지난 조회 로그 롤업 즉시 실행
+	 */
+	@PostMapping("/view-logs/rollup")
+	public Mono<Long> rollupViewLogs() {
+		return viewLogRollupJob.rollup();
+	}
+
+	/**
+	 * 📈 새 게시글 스트림 구독자 큐 지표 (큐 깊이, 버려진 이벤트, 끊긴 연결)
+	 */
+	@GetMapping("/metrics/new-post-stream")
+	public Mono<SubscriberQueue.Stats> getNewPostStreamMetrics() {
+		return Mono.fromSupplier(newPostEventStream::queueStats);
+	}
+}
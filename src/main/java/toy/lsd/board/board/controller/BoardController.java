@@ -1,6 +1,12 @@
 package toy.lsd.board.board.controller;
 
+import java.util.List;
+
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -8,6 +14,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,7 +23,11 @@ import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import toy.lsd.board.board.entity.Board;
+import toy.lsd.board.board.repository.dto.BoardSummary;
 import toy.lsd.board.board.service.BoardService;
+import toy.lsd.board.board.service.TrendingService;
+import toy.lsd.board.common.ClientAddress;
+import toy.lsd.board.common.CursorCodec;
 import toy.lsd.board.member.entity.Member;
 
 /**
@@ -28,26 +39,94 @@ import toy.lsd.board.member.entity.Member;
 @RequestMapping("/api/boards")
 @RequiredArgsConstructor
 public class BoardController {
+	private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
 	private final BoardService boardService;
+	private final TrendingService trendingService;
+	private final ClientAddress clientAddress;
 
 	/**
 	 * 🆕 무한스크롤용 게시글 목록 조회 (모든 사용자 허용)
+	 *
+	 * - before(커서)가 있으면 키셋 페이지네이션: ?before=<cursor>&size=N
+	 * - 없으면 기존 page 파라미터 호환 (OFFSET 방식)
+	 * 다음 페이지가 있으면 X-Next-Cursor 헤더로 다음 커서를 내려준다.
+	 * 목록은 본문 전체 대신 요약(발췌)만 내려주고, 본문은 상세 조회에서만 제공한다.
 	 */
 	@GetMapping
-	public Flux<Board> getBoards(
+	public Mono<ResponseEntity<List<BoardSummary>>> getBoards(
+			@RequestParam(required = false) String before,
 			@RequestParam(defaultValue = "0") int page,
 			@RequestParam(defaultValue = "5") int size) {
-		System.out.println("📄 게시글 페이징 조회 - page: " + page + ", size: " + size);
-		return boardService.getBoards(page, size);
+		Flux<BoardSummary> boards;
+		if (before != null) {
+			System.out.println("📄 게시글 커서 조회 - before: " + before + ", size: " + size);
+			boards = boardService.getBoardsBefore(CursorCodec.decodeId(before), size);
+		} else {
+			System.out.println("📄 게시글 페이징 조회 - page: " + page + ", size: " + size);
+			boards = boardService.getBoards(page, size);
+		}
+
+		return boards.collectList()
+			.map(list -> {
+				ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+				if (!list.isEmpty() && list.size() == size) {
+					response.header(NEXT_CURSOR_HEADER, CursorCodec.encode(list.get(list.size() - 1).id()));
+				}
+				return response.body(list);
+			});
+	}
+
+	/**
+	 * 🔎 게시글 검색 (모든 사용자 허용)
+	 * 예: ?q=검색어&size=10 (제목/본문 대상, 관련도순, size 는 board.search.max-size 까지)
+	 */
+	@GetMapping("/search")
+	public Flux<BoardSummary> searchBoards(
+			@RequestParam String q,
+			@RequestParam(defaultValue = "10") int size) {
+		System.out.println("🔎 게시글 검색 - q: " + q + ", size: " + size);
+		return boardService.searchBoards(q, size);
+	}
+
+	/**
+	 * 🔥 인기 게시글 (모든 사용자 허용)
+	 * 예: ?window=1h&limit=10 (window 는 5m, 1h, 24h 형식)
+	 */
+	@GetMapping("/trending")
+	public Flux<TrendingService.TrendingBoard> getTrendingBoards(
+			@RequestParam(defaultValue = "1h") String window,
+			@RequestParam(defaultValue = "10") int limit) {
+		return trendingService.getTrending(DurationStyle.detectAndParse(window), limit);
+	}
+
+	/**
+	 * 📤 전체 게시글 내보내기 - ADMIN 권한만 허용
+	 * NDJSON 으로 스트리밍하며, 끊기면 마지막으로 받은 ID를 after 로 넘겨 이어받는다.
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@PreAuthorize("hasRole('ADMIN')")  // 👑 ADMIN 권한만 허용
+	public Flux<Board> exportBoards(@RequestParam(defaultValue = "0") long after) {
+		System.out.println("📤 게시글 내보내기 시작 - after: " + after);
+		return boardService.exportBoards(after);
 	}
 
 	/**
 	 * 🆕 새 게시글 실시간 알림 (모든 사용자 허용)
+	 * 브라우저 EventSource 가 재연결하며 보내는 Last-Event-ID 이후의 게시글부터 이어서 보낸다.
+	 * 일괄 등록된 게시글은 chunk 마다 "bulk" 이벤트 1건(게시글 요약 목록)으로 보낸다.
+	 * 놓친 게시글이 너무 많으면 "reset" 이벤트를 보내 클라이언트가 목록을 다시 불러오게 한다.
+	 * 이벤트 데이터는 발행 시 한 번만 직렬화한 JSON 문자열이다.
 	 */
 	@GetMapping(value = "/new-posts", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-	public Flux<Board> getNewPostsStream() {
-		System.out.println("📡 새 게시글 실시간 스트림 연결 시작");
-		return boardService.getNewPostStream();
+	public Flux<ServerSentEvent<String>> getNewPostsStream(
+			@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+		System.out.println("📡 새 게시글 실시간 스트림 연결 시작" + (lastEventId != null ? " - Last-Event-ID: " + lastEventId : ""));
+		return boardService.getNewPostStream(lastEventId)
+			.map(event -> ServerSentEvent.builder(event.json())  // 미리 직렬화된 JSON 을 그대로 전송
+				.id(event.id())
+				.event(event.name())  // 일괄 등록은 "bulk", 놓친 게시글이 너무 많으면 "reset"
+				.build());
 	}
 
 	/**
@@ -72,14 +151,43 @@ public class BoardController {
 		return boardService.createBoard(board);
 	}
 
+	/**
+	 * 📦 게시글 대량 생성 - ADMIN 권한만 허용
+	 * NDJSON 스트림으로 받아 chunk 단위로 저장하고, 생성 결과도 NDJSON 으로 흘려보낸다.
+	 */
+	@PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@PreAuthorize("hasRole('ADMIN')")  // 👑 ADMIN 권한만 허용
+	public Flux<BoardSummary> createBoards(
+			@AuthenticationPrincipal Member member,
+			@RequestBody Flux<BoardCreateRequest> boardRequests) {
+		System.out.println("📦 게시글 대량 생성 시작 - 작성자: " + member.getName());
+
+		return boardService.createBoards(boardRequests.map(boardRequest -> {
+			Board board = new Board();
+			board.setTitle(boardRequest.title());
+			board.setContent(boardRequest.content());
+			board.setRegistrant(member.getName());
+			board.setModifier(member.getName());
+			board.setMemo(boardRequest.memo());
+			return board;
+		}));
+	}
+
 	/**
 	 * 게시글 상세 조회 - 로그인된 사용자만 허용
+	 * 고유 조회자는 회원 ID(없으면 클라이언트 주소) 기준으로 집계한다.
 	 */
 	@GetMapping("/{id}")
 	@PreAuthorize("hasAnyRole('USER', 'ADMIN')")  // 👤 로그인 필요
-	public Mono<Board> getBoard(@PathVariable Long id) {
+	public Mono<Board> getBoard(
+			@PathVariable Long id,
+			@AuthenticationPrincipal Member member,
+			ServerHttpRequest request) {
 		System.out.println("🔍 게시글 상세 조회: " + id);
-		return boardService.getBoardById(id);
+		String viewerKey = member != null
+			? "member:" + member.getId()
+			: "addr:" + clientAddress.resolve(request);
+		return boardService.getBoardById(id, viewerKey);
 	}
 
 	/**
@@ -54,4 +54,12 @@ public class Board {
 
 	@Transient
 	private Long viewCount = 0L;
+
+	// 댓글 수 (board_comment_count 카운터)
+	@Transient
+	private Long commentCount = 0L;
+
+	// 고유 조회자 추정값 (HyperLogLog, 상세 조회에서만 제공)
+	@Transient
+	private Long uniqueViewerCount;
 }
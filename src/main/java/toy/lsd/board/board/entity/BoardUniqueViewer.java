@@ -0,0 +1,28 @@
+package toy.lsd.board.board.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 게시글별 고유 조회자 HyperLogLog 스케치
+ */
+@Getter
+@Setter
+@Table("board_unique_viewer")
+public class BoardUniqueViewer {
+	@Id
+	@Column("board_id")
+	private Long boardId;
+
+	@Column("sketch")
+	private byte[] sketch;
+
+	@Column("modified_ymdt")
+	private LocalDateTime modifiedDateTime;
+}
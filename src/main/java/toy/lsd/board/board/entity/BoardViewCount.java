@@ -0,0 +1,23 @@
+package toy.lsd.board.board.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 게시글별 조회수 카운터 (board_view_log 집계를 비정규화한 값)
+ */
+@Getter
+@Setter
+@Table("board_view_count")
+public class BoardViewCount {
+	@Id
+	@Column("board_id")
+	private Long boardId;
+
+	@Column("view_count")
+	private Long viewCount;
+}
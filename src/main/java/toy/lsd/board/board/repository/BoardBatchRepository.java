@@ -0,0 +1,19 @@
+package toy.lsd.board.board.repository;
+
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+import toy.lsd.board.board.entity.Board;
+
+/**
+ * 게시글 일괄 저장용 커스텀 리포지토리 (대량 등록 전용)
+ */
+public interface BoardBatchRepository {
+	/**
+	 * 게시글 목록을 하나의 배치(Statement.add)로 INSERT
+	 * 감사 필드(registrant, registered_ymdt 등)는 호출자가 채워야 한다.
+	 * @param boards 저장할 게시글 (ID 없음)
+	 * @return 생성된 ID가 채워진 게시글 (입력 순서 유지)
+	 */
+	Flux<Board> insertAll(List<Board> boards);
+}
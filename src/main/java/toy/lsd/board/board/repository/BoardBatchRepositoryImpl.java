@@ -0,0 +1,64 @@
+package toy.lsd.board.board.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import toy.lsd.board.board.entity.Board;
+
+@RequiredArgsConstructor
+public class BoardBatchRepositoryImpl implements BoardBatchRepository {
+	private static final String INSERT_BOARD = """
+		INSERT INTO board (title, content, registrant, registered_ymdt, modifier, modified_ymdt)
+		VALUES (?, ?, ?, ?, ?, ?)
+		""";
+
+	private final DatabaseClient databaseClient;
+
+	@Override
+	public Flux<Board> insertAll(List<Board> boards) {
+		if (boards.isEmpty()) {
+			return Flux.empty();
+		}
+
+		return databaseClient.inConnectionMany(connection -> {
+				Statement statement = connection.createStatement(INSERT_BOARD).returnGeneratedValues("id");
+				for (int i = 0; i < boards.size(); i++) {
+					if (i > 0) {
+						statement.add();
+					}
+					bind(statement, boards.get(i));
+				}
+				// 바인딩 세트마다 Result 하나씩, 입력 순서대로 생성된 ID가 나온다
+				return Flux.from(statement.execute())
+					.concatMap(result -> result.map((row, metadata) -> row.get("id", Long.class)));
+			})
+			.index()
+			.map(indexed -> {
+				Board board = boards.get(indexed.getT1().intValue());
+				board.setId(indexed.getT2());
+				return board;
+			});
+	}
+
+	private static void bind(Statement statement, Board board) {
+		bindNullable(statement, 0, board.getTitle(), String.class);
+		bindNullable(statement, 1, board.getContent(), String.class);
+		bindNullable(statement, 2, board.getRegistrant(), String.class);
+		bindNullable(statement, 3, board.getRegisteredDateTime(), LocalDateTime.class);
+		bindNullable(statement, 4, board.getModifier(), String.class);
+		bindNullable(statement, 5, board.getModifiedDateTime(), LocalDateTime.class);
+	}
+
+	private static void bindNullable(Statement statement, int index, Object value, Class<?> type) {
+		if (value == null) {
+			statement.bindNull(index, type);
+		} else {
+			statement.bind(index, value);
+		}
+	}
+}
@@ -6,6 +6,6 @@ import org.springframework.stereotype.Repository;
 import toy.lsd.board.board.entity.Board;
 
 @Repository
-public interface BoardCrudRepository extends ReactiveCrudRepository<Board, Long> {
+public interface BoardCrudRepository extends ReactiveCrudRepository<Board, Long>, BoardBatchRepository {
 
 }
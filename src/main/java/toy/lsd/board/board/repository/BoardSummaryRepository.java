@@ -0,0 +1,79 @@
+package toy.lsd.board.board.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Flux;
+import toy.lsd.board.board.repository.dto.BoardSummary;
+
+/**
+ * 목록 전용 조회 - content 컬럼 전체 대신 발췌(LEFT)만 읽는다
+ */
+@Repository
+public interface BoardSummaryRepository extends R2dbcRepository<BoardSummary, Long> {
+    @Query("""
+        SELECT 
+            b.id,
+            b.title,
+            LEFT(b.content, 100) AS excerpt,
+            b.registrant,
+            b.registered_ymdt,
+            b.modifier,
+            b.modified_ymdt,
+            COALESCE(vc.view_count, 0) AS viewCount,
+            COALESCE(cc.comment_count, 0) AS commentCount
+        FROM board b
+        LEFT JOIN board_view_count vc ON vc.board_id = b.id
+        LEFT JOIN board_comment_count cc ON cc.board_id = b.id
+        ORDER BY b.id DESC
+        LIMIT :limit OFFSET :offset
+        """)
+    Flux<BoardSummary> findAllSummaries(Long limit, Long offset);
+
+    /**
+     * 키셋(커서) 페이지네이션 - cursor보다 작은 ID를 최신순으로 조회
+     */
+    @Query("""
+        SELECT 
+            b.id,
+            b.title,
+            LEFT(b.content, 100) AS excerpt,
+            b.registrant,
+            b.registered_ymdt,
+            b.modifier,
+            b.modified_ymdt,
+            COALESCE(vc.view_count, 0) AS viewCount,
+            COALESCE(cc.comment_count, 0) AS commentCount
+        FROM board b
+        LEFT JOIN board_view_count vc ON vc.board_id = b.id
+        LEFT JOIN board_comment_count cc ON cc.board_id = b.id
+        WHERE b.id < :cursor
+        ORDER BY b.id DESC
+        LIMIT :limit
+        """)
+    Flux<BoardSummary> findAllSummariesBefore(Long cursor, Long limit);
+
+    /**
+     * ID 목록으로 요약 조회 (PK IN 조회, 순서 보장 안 함)
+     */
+    @Query("""
+        SELECT 
+            b.id,
+            b.title,
+            LEFT(b.content, 100) AS excerpt,
+            b.registrant,
+            b.registered_ymdt,
+            b.modifier,
+            b.modified_ymdt,
+            COALESCE(vc.view_count, 0) AS viewCount,
+            COALESCE(cc.comment_count, 0) AS commentCount
+        FROM board b
+        LEFT JOIN board_view_count vc ON vc.board_id = b.id
+        LEFT JOIN board_comment_count cc ON cc.board_id = b.id
+        WHERE b.id IN (:ids)
+        """)
+    Flux<BoardSummary> findAllSummariesByIds(Collection<Long> ids);
+}
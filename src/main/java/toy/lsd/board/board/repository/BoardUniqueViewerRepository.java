@@ -0,0 +1,20 @@
+package toy.lsd.board.board.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Mono;
+import toy.lsd.board.board.entity.BoardUniqueViewer;
+
+@Repository
+public interface BoardUniqueViewerRepository extends R2dbcRepository<BoardUniqueViewer, Long> {
+    @Modifying
+    @Query("""
+        INSERT INTO board_unique_viewer (board_id, sketch, modified_ymdt)
+        VALUES (:boardId, :sketch, NOW())
+        ON DUPLICATE KEY UPDATE sketch = VALUES(sketch), modified_ymdt = VALUES(modified_ymdt)
+        """)
+    Mono<Long> upsert(Long boardId, byte[] sketch);
+}
@@ -0,0 +1,17 @@
+package toy.lsd.board.board.repository;
+
+import java.util.Map;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 조회수 카운터 일괄 증가용 커스텀 리포지토리 (write-behind 플러시 전용)
+ */
+public interface BoardViewCountBatchRepository {
+	/**
+	 * 게시글별 조회수를 multi-row upsert로 카운터에 더함
+	 * @param viewCounts 게시글 ID별 증가분
+	 * @return 영향받은 row 수
+	 */
+	Mono<Long> incrementViewCounts(Map<Long, Long> viewCounts);
+}
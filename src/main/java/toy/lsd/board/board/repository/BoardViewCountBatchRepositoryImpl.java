@@ -0,0 +1,31 @@
+package toy.lsd.board.board.repository;
+
+import java.util.Map;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class BoardViewCountBatchRepositoryImpl implements BoardViewCountBatchRepository {
+	private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+	private final DatabaseClient databaseClient;
+
+	@Override
+	public Mono<Long> incrementViewCounts(Map<Long, Long> viewCounts) {
+		return Flux.fromIterable(viewCounts.entrySet())
+			.map(entry -> new Object[] {entry.getKey(), entry.getValue()})
+			.buffer(MAX_ROWS_PER_STATEMENT)
+			.concatMap(rows -> databaseClient.sql("""
+					INSERT INTO board_view_count (board_id, view_count) VALUES :rows
+					ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count)
+					""")
+				.bind("rows", rows)
+				.fetch()
+				.rowsUpdated())
+			.reduce(0L, Long::sum);
+	}
+}
@@ -0,0 +1,65 @@
+package toy.lsd.board.board.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Mono;
+import toy.lsd.board.board.entity.BoardViewCount;
+
+@Repository
+public interface BoardViewCountRepository extends R2dbcRepository<BoardViewCount, Long>, BoardViewCountBatchRepository {
+    @Modifying
+    @Query("""
+        INSERT INTO board_view_count (board_id, view_count)
+        VALUES (:boardId, 1)
+        ON DUPLICATE KEY UPDATE view_count = view_count + 1
+        """)
+    Mono<Long> increment(Long boardId);
+
+    /**
+     * 1회성 백필: 원본 조회 로그 + 시간별 집계를 합산해 카운터를 채운다
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO board_view_count (board_id, view_count)
+        SELECT logged.board_id, SUM(logged.cnt)
+        FROM (
+            SELECT l.board_id, COUNT(*) AS cnt
+            FROM board_view_log l
+            GROUP BY l.board_id
+            UNION ALL
+            SELECT h.board_id, SUM(h.view_count) AS cnt
+            FROM board_view_log_hourly h
+            GROUP BY h.board_id
+        ) logged
+        GROUP BY logged.board_id
+        ON DUPLICATE KEY UPDATE view_count = VALUES(view_count)
+        """)
+    Mono<Long> backfill();
+
+    /**
+     * 정합성 보정: 원본 조회 로그 + 시간별 집계 합보다 작은 카운터를 올리고, 카운터가 없는 게시글은 새로 만든다
+     *
+     * 집계 후 쓰기 전에 커밋된 write-behind 플러시를 덮어쓰지 않도록 GREATEST 로 올리기만 한다.
+     * (집계 시점 이후 증가분은 카운터에만 있으므로 카운터가 더 크면 그대로 둔다)
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO board_view_count (board_id, view_count)
+        SELECT logged.board_id, SUM(logged.cnt)
+        FROM (
+            SELECT l.board_id, COUNT(*) AS cnt
+            FROM board_view_log l
+            GROUP BY l.board_id
+            UNION ALL
+            SELECT h.board_id, SUM(h.view_count) AS cnt
+            FROM board_view_log_hourly h
+            GROUP BY h.board_id
+        ) logged
+        GROUP BY logged.board_id
+        ON DUPLICATE KEY UPDATE view_count = GREATEST(view_count, VALUES(view_count))
+        """)
+    Mono<Long> reconcile();
+}
@@ -0,0 +1,19 @@
+package toy.lsd.board.board.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 조회 로그 일괄 저장용 커스텀 리포지토리 (write-behind 플러시 전용)
+ */
+public interface BoardViewLogBatchRepository {
+	/**
+	 * 게시글별 누적 조회수만큼 조회 로그를 multi-row INSERT로 저장
+	 * @param viewCounts 게시글 ID별 조회수
+	 * @param viewedDateTime 조회 시각
+	 * @return 저장된 로그 건수
+	 */
+	Mono<Long> insertViewLogs(Map<Long, Long> viewCounts, LocalDateTime viewedDateTime);
+}
@@ -0,0 +1,33 @@
+package toy.lsd.board.board.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class BoardViewLogBatchRepositoryImpl implements BoardViewLogBatchRepository {
+	// 한 INSERT 문에 담을 최대 row 수 (패킷 크기 제한 대비)
+	private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+	private final DatabaseClient databaseClient;
+
+	@Override
+	public Mono<Long> insertViewLogs(Map<Long, Long> viewCounts, LocalDateTime viewedDateTime) {
+		return Flux.fromIterable(viewCounts.entrySet())
+			.flatMapIterable(entry -> LongStream.range(0, entry.getValue())
+				.mapToObj(i -> new Object[] {entry.getKey(), viewedDateTime})
+				.toList())
+			.buffer(MAX_ROWS_PER_STATEMENT)
+			.concatMap(rows -> databaseClient.sql("INSERT INTO board_view_log (board_id, viewed_ymdt) VALUES :rows")
+				.bind("rows", rows)
+				.fetch()
+				.rowsUpdated())
+			.reduce(0L, Long::sum);
+	}
+}
@@ -1,10 +1,53 @@
 package toy.lsd.board.board.repository;
 
+import java.time.LocalDateTime;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 
+import reactor.core.publisher.Mono;
 import toy.lsd.board.board.entity.BoardViewLog;
 
 @Repository
-public interface BoardViewLogRepository extends ReactiveCrudRepository<BoardViewLog, Long> {
-}
\ No newline at end of file
+public interface BoardViewLogRepository extends ReactiveCrudRepository<BoardViewLog, Long>, BoardViewLogBatchRepository {
+    /**
+     * 롤업 대상 배치의 마지막 ID (cutoff 이전 로그 중 ID 오름차순 batchSize 건), 없으면 0
+     */
+    @Query("""
+        SELECT COALESCE(MAX(t.id), 0)
+        FROM (
+            SELECT l.id
+            FROM board_view_log l
+            WHERE l.viewed_ymdt < :cutoff
+            ORDER BY l.id
+            LIMIT :batchSize
+        ) t
+        """)
+    Mono<Long> findRollupBoundary(LocalDateTime cutoff, int batchSize);
+
+    /**
+     * 배치 범위의 원본 로그를 게시글/시간 단위로 집계해 board_view_log_hourly 에 더함
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO board_view_log_hourly (board_id, hour_ymdt, view_count)
+        SELECT l.board_id, DATE(l.viewed_ymdt) + INTERVAL HOUR(l.viewed_ymdt) HOUR AS hour_ymdt, COUNT(*)
+        FROM board_view_log l
+        WHERE l.id <= :maxId AND l.viewed_ymdt < :cutoff
+        GROUP BY l.board_id, hour_ymdt
+        ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count)
+        """)
+    Mono<Long> rollupUpTo(Long maxId, LocalDateTime cutoff);
+
+    /**
+     * 집계가 끝난 배치 범위의 원본 로그 삭제
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM board_view_log
+        WHERE id <= :maxId AND viewed_ymdt < :cutoff
+        """)
+    Mono<Long> deleteUpTo(Long maxId, LocalDateTime cutoff);
+}
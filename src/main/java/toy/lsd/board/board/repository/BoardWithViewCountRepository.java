@@ -10,6 +10,9 @@ import toy.lsd.board.board.repository.dto.BoardWithViewCount;
 
 @Repository
 public interface BoardWithViewCountRepository extends R2dbcRepository<BoardWithViewCount, Long> {
+    /**
+     * 전체 내보내기용 키셋 조회 - after 보다 큰 ID를 오래된 순으로 limit 건
+     */
     @Query("""
         SELECT 
             b.id,
@@ -19,11 +22,16 @@ public interface BoardWithViewCountRepository extends R2dbcRepository<BoardWithV
             b.registered_ymdt,
             b.modifier,
             b.modified_ymdt,
-            (SELECT COUNT(*) FROM board_view_log WHERE board_id = b.id) AS viewCount
+            COALESCE(vc.view_count, 0) AS viewCount,
+            COALESCE(cc.comment_count, 0) AS commentCount
         FROM board b
-        ORDER BY b.id DESC
+        LEFT JOIN board_view_count vc ON vc.board_id = b.id
+        LEFT JOIN board_comment_count cc ON cc.board_id = b.id
+        WHERE b.id > :after
+        ORDER BY b.id ASC
+        LIMIT :limit
         """)
-    Flux<BoardWithViewCount> findAllWithViewCount();
+    Flux<BoardWithViewCount> findAllWithViewCountAfter(Long after, Long limit);
 
     @Query("""
         SELECT 
@@ -34,24 +42,11 @@ public interface BoardWithViewCountRepository extends R2dbcRepository<BoardWithV
             b.registered_ymdt,
             b.modifier,
             b.modified_ymdt,
-            (SELECT COUNT(*) FROM board_view_log WHERE board_id = b.id) AS viewCount
-        FROM board b
-        ORDER BY b.id DESC
-        LIMIT :limit OFFSET :offset
-        """)
-    Flux<BoardWithViewCount> findAllWithViewCount(Long limit, Long offset);
-
-    @Query("""
-        SELECT 
-            b.id,
-            b.title,
-            b.content,
-            b.registrant,
-            b.registered_ymdt,
-            b.modifier,
-            b.modified_ymdt,
-            (SELECT COUNT(*) FROM board_view_log WHERE board_id = b.id) AS viewCount
+            COALESCE(vc.view_count, 0) AS viewCount,
+            COALESCE(cc.comment_count, 0) AS commentCount
         FROM board b
+        LEFT JOIN board_view_count vc ON vc.board_id = b.id
+        LEFT JOIN board_comment_count cc ON cc.board_id = b.id
         WHERE b.id = :id
         """)
 	Mono<BoardWithViewCount> findByIdWithViewCount(Long id);
@@ -0,0 +1,55 @@
+package toy.lsd.board.board.repository.dto;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.relational.core.mapping.Column;
+
+import toy.lsd.board.board.entity.Board;
+
+/**
+ * 📋 목록용 게시글 요약 (본문 전체 대신 앞부분 발췌만 포함)
+ */
+public record BoardSummary(
+    Long id,
+    String title,
+    String excerpt,
+    String registrant,
+    @Column("registered_ymdt")
+    LocalDateTime registeredDateTime,
+    String modifier,
+    @Column("modified_ymdt")
+    LocalDateTime modifiedDateTime,
+    @Column("viewCount")
+    Long viewCount,
+    @Column("commentCount")
+    Long commentCount
+) {
+    // BoardSummaryRepository 의 LEFT(b.content, 100) 과 동일한 길이
+    public static final int EXCERPT_LENGTH = 100;
+
+    public static BoardSummary from(Board board) {
+        String content = board.getContent();
+        String excerpt = content == null || content.length() <= EXCERPT_LENGTH
+            ? content
+            : content.substring(0, EXCERPT_LENGTH);
+        return new BoardSummary(
+            board.getId(),
+            board.getTitle(),
+            excerpt,
+            board.getRegistrant(),
+            board.getRegisteredDateTime(),
+            board.getModifier(),
+            board.getModifiedDateTime(),
+            board.getViewCount(),
+            board.getCommentCount()
+        );
+    }
+
+    public BoardSummary withViewCount(Long viewCount) {
+        return new BoardSummary(id, title, excerpt, registrant, registeredDateTime, modifier, modifiedDateTime, viewCount, commentCount);
+    }
+
+    public BoardSummary withCommentCount(Long commentCount) {
+        return new BoardSummary(id, title, excerpt, registrant, registeredDateTime, modifier, modifiedDateTime, viewCount, commentCount);
+    }
+}
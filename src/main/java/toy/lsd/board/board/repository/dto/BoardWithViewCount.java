@@ -17,9 +17,11 @@ public record BoardWithViewCount(
     @Column("modified_ymdt")
     LocalDateTime modifiedDateTime,
     @Column("viewCount")
-    Long viewCount
+    Long viewCount,
+    @Column("commentCount")
+    Long commentCount
 ) {
-    
+
     public Board toBoard() {
         return Board.builder()
             .id(id)
@@ -30,6 +32,11 @@ public record BoardWithViewCount(
             .modifier(modifier)
             .modifiedDateTime(modifiedDateTime)
             .viewCount(viewCount)
+            .commentCount(commentCount)
             .build();
     }
+
+    public BoardWithViewCount withCommentCount(Long commentCount) {
+        return new BoardWithViewCount(id, title, content, registrant, registeredDateTime, modifier, modifiedDateTime, viewCount, commentCount);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,91 @@
+package toy.lsd.board.board.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+import toy.lsd.board.board.entity.Board;
+import toy.lsd.board.board.repository.BoardWithViewCountRepository;
+import toy.lsd.board.board.repository.dto.BoardWithViewCount;
+import toy.lsd.board.common.LocalCache;
+import toy.lsd.board.common.SingleFlight;
+
+/**
+ * 🗃️ 게시글 상세 로컬 캐시 (findByIdWithViewCount 앞단)
+ *
+ * 게시글 row는 생성 후 거의 바뀌지 않으므로 크기/TTL 제한 캐시에 보관하고,
+ * 조회수는 캐시된 값 대신 {@link LiveViewCounter}로 덧씌운다.
+ * 캐시 miss 시 같은 게시글에 대한 동시 요청은 하나의 DB 조회를 공유한다.
+ */
+@Component
+public class BoardDetailCache {
+	private final BoardWithViewCountRepository boardWithViewCountRepository;
+	private final LiveViewCounter liveViewCounter;
+	private final LocalCache<Long, CachedBoard> cache;
+	private final SingleFlight<Long, CachedBoard> loader = new SingleFlight<>("board-detail");
+
+	public BoardDetailCache(
+			BoardWithViewCountRepository boardWithViewCountRepository,
+			LiveViewCounter liveViewCounter,
+			@Value("${board.cache.detail.maximum-size:1000}") int maximumSize,
+			@Value("${board.cache.detail.ttl:5m}") Duration ttl) {
+		this.boardWithViewCountRepository = boardWithViewCountRepository;
+		this.liveViewCounter = liveViewCounter;
+		this.cache = new LocalCache<>("board-detail", maximumSize, ttl);
+	}
+
+	/**
+	 * 캐시 우선 조회, 없으면 DB에서 읽어 캐시에 저장
+	 * @param id 게시글 ID
+	 * @return 캐시된 게시글 (없는 게시글이면 empty)
+	 */
+	public Mono<CachedBoard> get(Long id) {
+		return Mono.defer(() -> {
+			CachedBoard cached = cache.getIfPresent(id);
+			// 조회수 카운터가 회수된 항목은 기준값이 맞지 않으므로 다시 읽는다
+			return cached != null && liveViewCounter.isCurrent(id, cached.viewCountBaseline())
+				? Mono.just(cached)
+				: loader.execute(id, this::load);
+		});
+	}
+
+	public void invalidate(Long id) {
+		cache.invalidate(id);
+	}
+
+	/**
+	 * 캐시된 게시글의 댓글 수 갱신 (다시 읽지 않고 제자리 갱신)
+	 * 커밋 시점의 DB 값과 큰 쪽을 취하므로 순서가 뒤바뀌거나 이미 반영된 값을 다시 받아도 맞다.
+	 * @param id 게시글 ID
+	 * @param commentCount 댓글 트랜잭션 커밋 시점의 댓글 수
+	 */
+	public void updateCommentCount(Long id, long commentCount) {
+		cache.updateIfPresent(id, cached -> {
+			Long current = cached.row().commentCount();
+			return current != null && current >= commentCount
+				? cached
+				: new CachedBoard(cached.row().withCommentCount(commentCount), cached.viewCountBaseline());
+		});
+	}
+
+	public LocalCache.Stats stats() {
+		return cache.stats();
+	}
+
+	public SingleFlight.Stats loadStats() {
+		return loader.stats();
+	}
+
+	private Mono<CachedBoard> load(Long id) {
+		return boardWithViewCountRepository.findByIdWithViewCount(id)
+			.map(row -> new CachedBoard(row, liveViewCounter.baseline(id, row.viewCount())))
+			.doOnNext(loaded -> cache.put(id, loaded));
+	}
+
+	/**
+	 * 캐시 항목 - 게시글 row와 조회수 기준값
+	 */
+	public record CachedBoard(BoardWithViewCount row, LiveViewCounter.Baseline viewCountBaseline) {}
+}
@@ -0,0 +1,372 @@
+package toy.lsd.board.board.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import toy.lsd.board.board.entity.Board;
+import toy.lsd.board.board.repository.BoardCrudRepository;
+
+/**
+ * 🔎 게시글 제목/본문 인메모리 역색인 (BM25 랭킹)
+ *
+ * - 토큰화: 한글 등 공백 없이 붙는 문자열은 2-gram, 영문/숫자는 단어 단위
+ * - 포스팅: 용어별 int[] (문서 번호, 출현 횟수) 배열로 박싱 없이 보관
+ * - 제목 토큰은 가중치 2배
+ * 시작 시 전체 게시글을 스트리밍해 색인하고, 이후 생성/삭제 시 증분 반영한다.
+ * (초기 색인 중 들어온 생성/삭제는 모아 두었다가 색인이 끝난 뒤 순서대로 적용)
+ * 삭제된 문서는 비트셋으로 제외해 두고, 살아 있는 문서의 1/4 을 넘으면 포스팅을 압축한다.
+ * 검색은 질의 용어의 포스팅에 나온 문서만 점수를 매기고, idf 는 삭제되지 않은 포스팅 수로 계산한다.
+ */
+@Component
+public class BoardSearchIndex {
+	private static final float K1 = 1.2f;
+	private static final float B = 0.75f;
+	private static final int TITLE_WEIGHT = 2;
+	private static final int COMPACT_MIN_DELETED = 1024;
+
+	private final BoardCrudRepository boardCrudRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, PostingList> postings = new HashMap<>();
+	private final Map<Long, Integer> docIdByBoardId = new HashMap<>();
+	private long[] boardIds = new long[1024];
+	private int[] docLengths = new int[1024];
+	private final BitSet deleted = new BitSet();
+	private int deletedCount;
+	private int docCount;
+	private int liveDocCount;
+	private long liveTotalLength;
+	// 초기 색인 중 들어온 변경 (게시글 ID → 문서, 삭제는 null)
+	private final Map<Long, Document> pendingDuringBuild = new LinkedHashMap<>();
+	private boolean building;
+
+	public BoardSearchIndex(BoardCrudRepository boardCrudRepository) {
+		this.boardCrudRepository = boardCrudRepository;
+	}
+
+	/**
+	 * 애플리케이션 기동 후 전체 게시글 색인
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void build() {
+		long startNanos = System.nanoTime();
+		lock.writeLock().lock();
+		try {
+			building = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+		boardCrudRepository.findAll()
+			.doOnNext(board -> {
+				Document document = analyze(board);
+				lock.writeLock().lock();
+				try {
+					addLocked(document);
+				} finally {
+					lock.writeLock().unlock();
+				}
+			})
+			.count()
+			.doFinally(signal -> finishBuild())
+			.subscribe(
+				indexed -> System.out.println("🔎 검색 색인 완료: " + indexed + "건 ("
+					+ (System.nanoTime() - startNanos) / 1_000_000 + "ms)"),
+				error -> System.err.println("검색 색인 실패: " + error.getMessage())
+			);
+	}
+
+	/**
+	 * 게시글 색인 (이미 있으면 기존 문서를 지우고 다시 색인)
+	 * @param board 게시글
+	 */
+	public void add(Board board) {
+		Document document = analyze(board);
+		lock.writeLock().lock();
+		try {
+			if (building) {
+				pendingDuringBuild.put(board.getId(), document);
+			} else {
+				addLocked(document);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 게시글 색인 제거
+	 * @param boardId 게시글 ID
+	 */
+	public void remove(Long boardId) {
+		lock.writeLock().lock();
+		try {
+			if (building) {
+				pendingDuringBuild.put(boardId, null);
+			} else {
+				removeLocked(boardId);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 초기 색인 종료 - 그동안 모아 둔 생성/삭제를 적용 (스냅샷보다 나중 변경이므로 덮어씀)
+	 */
+	private void finishBuild() {
+		lock.writeLock().lock();
+		try {
+			pendingDuringBuild.forEach((boardId, document) -> {
+				if (document == null) {
+					removeLocked(boardId);
+				} else {
+					addLocked(document);
+				}
+			});
+			pendingDuringBuild.clear();
+			building = false;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static Document analyze(Board board) {
+		Map<String, Integer> termFrequencies = new HashMap<>();
+		int length = 0;
+		for (String token : tokenize(board.getTitle())) {
+			termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+			length += TITLE_WEIGHT;
+		}
+		for (String token : tokenize(board.getContent())) {
+			termFrequencies.merge(token, 1, Integer::sum);
+			length++;
+		}
+		return new Document(board.getId(), length, termFrequencies);
+	}
+
+	private void addLocked(Document document) {
+		removeLocked(document.boardId());
+
+		int docId = docCount++;
+		if (docId == boardIds.length) {
+			boardIds = Arrays.copyOf(boardIds, docId * 2);
+			docLengths = Arrays.copyOf(docLengths, docId * 2);
+		}
+		boardIds[docId] = document.boardId();
+		docLengths[docId] = document.length();
+		docIdByBoardId.put(document.boardId(), docId);
+		liveDocCount++;
+		liveTotalLength += document.length();
+
+		document.termFrequencies().forEach((term, frequency) ->
+			postings.computeIfAbsent(term, t -> new PostingList()).add(docId, frequency));
+	}
+
+	/**
+	 * BM25 점수 상위 게시글 검색
+	 * @param query 검색어
+	 * @param limit 최대 결과 수
+	 * @return 점수 내림차순 게시글 ID
+	 */
+	public List<Long> search(String query, int limit) {
+		List<String> terms = tokenize(query).stream().distinct().toList();
+		if (terms.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+
+		lock.readLock().lock();
+		try {
+			if (liveDocCount == 0) {
+				return List.of();
+			}
+			float averageLength = (float) liveTotalLength / liveDocCount;
+			// 포스팅에 나온 문서만 점수 보관 (전체 문서 수 크기 배열을 만들지 않음)
+			Map<Integer, Float> scores = new HashMap<>();
+
+			for (String term : terms) {
+				PostingList postingList = postings.get(term);
+				if (postingList == null) {
+					continue;
+				}
+				int documentFrequency = postingList.liveSize(deleted, deletedCount);
+				float idf = (float) Math.log(1 + (liveDocCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+				for (int i = 0; i < postingList.size; i++) {
+					int docId = postingList.docIds[i];
+					if (deleted.get(docId)) {
+						continue;
+					}
+					int frequency = postingList.frequencies[i];
+					float norm = K1 * (1 - B + B * docLengths[docId] / averageLength);
+					scores.merge(docId, idf * frequency * (K1 + 1) / (frequency + norm), Float::sum);
+				}
+			}
+
+			PriorityQueue<Map.Entry<Integer, Float>> top = new PriorityQueue<>(Math.min(limit, scores.size()) + 1, Map.Entry.comparingByValue());
+			for (Map.Entry<Integer, Float> scored : scores.entrySet()) {
+				top.add(scored);
+				if (top.size() > limit) {
+					top.poll();
+				}
+			}
+
+			List<Long> result = new ArrayList<>(top.size());
+			while (!top.isEmpty()) {
+				result.add(boardIds[top.poll().getKey()]);
+			}
+			return result.reversed();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void removeLocked(Long boardId) {
+		Integer docId = docIdByBoardId.remove(boardId);
+		if (docId == null) {
+			return;
+		}
+		deleted.set(docId);
+		deletedCount++;
+		liveDocCount--;
+		liveTotalLength -= docLengths[docId];
+
+		if (deletedCount >= COMPACT_MIN_DELETED && deletedCount > liveDocCount / 4) {
+			compactLocked();
+		}
+	}
+
+	/**
+	 * 삭제된 문서를 포스팅/문서 배열에서 제거하고 문서 번호를 앞으로 당긴다
+	 * (번호 순서가 유지되므로 포스팅의 오름차순도 유지됨)
+	 */
+	private void compactLocked() {
+		int[] remap = new int[docCount];
+		int next = 0;
+		for (int docId = 0; docId < docCount; docId++) {
+			if (deleted.get(docId)) {
+				remap[docId] = -1;
+				continue;
+			}
+			remap[docId] = next;
+			boardIds[next] = boardIds[docId];
+			docLengths[next] = docLengths[docId];
+			next++;
+		}
+		postings.values().removeIf(postingList -> postingList.compact(remap) == 0);
+		docIdByBoardId.replaceAll((boardId, docId) -> remap[docId]);
+		docCount = next;
+		deleted.clear();
+		deletedCount = 0;
+	}
+
+	/**
+	 * 한글 등 공백 없이 이어지는 문자열은 2-gram, 라틴 문자/숫자는 단어 단위로 토큰화
+	 */
+	static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null || text.isBlank()) {
+			return tokens;
+		}
+
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+		int length = normalized.length();
+		int start = 0;
+		while (start < length) {
+			if (!Character.isLetterOrDigit(normalized.charAt(start))) {
+				start++;
+				continue;
+			}
+			int end = start;
+			boolean ngram = false;
+			while (end < length && Character.isLetterOrDigit(normalized.charAt(end))) {
+				ngram |= isNgramScript(normalized.charAt(end));
+				end++;
+			}
+
+			String word = normalized.substring(start, end);
+			if (ngram && word.length() > 1) {
+				for (int i = 0; i + 2 <= word.length(); i++) {
+					tokens.add(word.substring(i, i + 2));
+				}
+			} else {
+				tokens.add(word);
+			}
+			start = end;
+		}
+		return tokens;
+	}
+
+	private static boolean isNgramScript(char c) {
+		Character.UnicodeScript script = Character.UnicodeScript.of(c);
+		return script == Character.UnicodeScript.HANGUL
+			|| script == Character.UnicodeScript.HAN
+			|| script == Character.UnicodeScript.HIRAGANA
+			|| script == Character.UnicodeScript.KATAKANA;
+	}
+
+	/**
+	 * 용어 하나의 포스팅 (문서 번호 오름차순, 병렬 int 배열)
+	 */
+	private static final class PostingList {
+		private int[] docIds = new int[4];
+		private int[] frequencies = new int[4];
+		private int size;
+
+		private void add(int docId, int frequency) {
+			if (size == docIds.length) {
+				docIds = Arrays.copyOf(docIds, size * 2);
+				frequencies = Arrays.copyOf(frequencies, size * 2);
+			}
+			docIds[size] = docId;
+			frequencies[size] = frequency;
+			size++;
+		}
+
+		/**
+		 * 삭제되지 않은 문서의 포스팅 수 (압축 전까지 남아 있는 삭제 문서를 idf 에서 제외)
+		 */
+		private int liveSize(BitSet deleted, int deletedCount) {
+			if (deletedCount == 0) {
+				return size;
+			}
+			int live = 0;
+			for (int i = 0; i < size; i++) {
+				if (!deleted.get(docIds[i])) {
+					live++;
+				}
+			}
+			return live;
+		}
+
+		/**
+		 * 삭제된 문서를 빼고 새 문서 번호로 바꿈
+		 * @return 남은 포스팅 수
+		 */
+		private int compact(int[] remap) {
+			int kept = 0;
+			for (int i = 0; i < size; i++) {
+				int docId = remap[docIds[i]];
+				if (docId >= 0) {
+					docIds[kept] = docId;
+					frequencies[kept] = frequencies[i];
+					kept++;
+				}
+			}
+			size = kept;
+			return kept;
+		}
+	}
+
+	private record Document(Long boardId, int length, Map<String, Integer> termFrequencies) {}
+}
@@ -1,36 +1,118 @@
 package toy.lsd.board.board.service;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
 import reactor.util.context.Context;
 import toy.lsd.board.board.entity.Board;
 import toy.lsd.board.board.repository.BoardCrudRepository;
+import toy.lsd.board.board.repository.BoardSummaryRepository;
 import toy.lsd.board.board.repository.BoardWithViewCountRepository;
+import toy.lsd.board.board.repository.dto.BoardSummary;
 import toy.lsd.board.board.repository.dto.BoardWithViewCount;
 
 @Service
 @RequiredArgsConstructor
 public class BoardService {
-	private final BoardWithViewCountRepository boardWithViewCountRepository;
 	private final BoardCrudRepository boardCrudRepository;
+	private final BoardSummaryRepository boardSummaryRepository;
+	private final BoardWithViewCountRepository boardWithViewCountRepository;
 
-	private final Sinks.Many<Board> newPostSink = Sinks.many().replay().latest();
 	private final ViewLogService viewLogService;
+	private final LiveViewCounter liveViewCounter;
+	private final BoardDetailCache boardDetailCache;
+	private final FirstPageSnapshot firstPageSnapshot;
+	private final UniqueViewerService uniqueViewerService;
+	private final BoardSearchIndex boardSearchIndex;
+	private final NewPostEventStream newPostEventStream;
+	private final TransactionalOperator transactionalOperator;
+
+	@Value("${board.bulk.chunk-size:500}")
+	private int bulkChunkSize;
+
+	@Value("${board.export.fetch-size:1000}")
+	private int exportFetchSize;
+
+	@Value("${board.search.max-size:100}")
+	private int searchMaxSize;
 
 	/**
 	 * 무한스크롤용 페이징 조회
+	 * 첫 페이지는 메모리 스냅샷에서 DB 조회 없이 응답한다.
 	 * @param page 페이지 번호 (0부터 시작)
 	 * @param size 페이지 크기
-	 * @return 조회수 포함된 게시글 목록
+	 * @return 조회수 포함된 게시글 요약 목록
 	 */
-	public Flux<Board> getBoards(int page, int size) {
+	public Flux<BoardSummary> getBoards(int page, int size) {
+		if (page == 0 && firstPageSnapshot.covers(size)) {
+			return firstPageSnapshot.firstPage(size)
+				.flatMapIterable(summaries -> summaries);
+		}
+
 		long offset = (long) page * size;
-		return boardWithViewCountRepository.findAllWithViewCount((long)size, offset)
-			.map(BoardWithViewCount::toBoard);
+		return boardSummaryRepository.findAllSummaries((long)size, offset);
+	}
+
+	/**
+	 * 무한스크롤용 키셋(커서) 조회 - OFFSET 없이 인덱스 범위 스캔
+	 * @param cursor 이전 페이지 마지막 게시글 ID (이 ID보다 작은 게시글부터 조회)
+	 * @param size 페이지 크기
+	 * @return 조회수 포함된 게시글 요약 목록
+	 */
+	public Flux<BoardSummary> getBoardsBefore(Long cursor, int size) {
+		return boardSummaryRepository.findAllSummariesBefore(cursor, (long)size);
+	}
+
+	/**
+	 * 제목/본문 검색 (인메모리 역색인, BM25 순)
+	 * @param query 검색어
+	 * @param size 최대 결과 수 (최대 board.search.max-size)
+	 * @return 관련도 내림차순 게시글 요약 목록
+	 */
+	public Flux<BoardSummary> searchBoards(String query, int size) {
+		List<Long> ids = boardSearchIndex.search(query, Math.min(size, searchMaxSize));
+		if (ids.isEmpty()) {
+			return Flux.empty();
+		}
+
+		return boardSummaryRepository.findAllSummariesByIds(ids)
+			.collectMap(BoardSummary::id, Function.identity())
+			.flatMapIterable(summaries -> ids.stream()
+				.filter(summaries::containsKey)  // 색인 반영 전 삭제된 게시글 제외
+				.map(summaries::get)
+				.toList());
+	}
+
+	/**
+	 * 전체 게시글 내보내기 (ID 오름차순)
+	 * 한 번에 fetch-size 건씩 키셋으로 끊어 읽고 다운스트림 요청만큼만 다음 페이지를 읽어
+	 * 전체 건수와 무관하게 메모리 사용량을 일정하게 유지한다.
+	 * @param after 마지막으로 받은 게시글 ID (이어받기, 처음부터면 0)
+	 * @return 조회수 포함된 게시글 스트림
+	 */
+	public Flux<Board> exportBoards(long after) {
+		return exportPage(after)
+			.expand(page -> page.size() < exportFetchSize
+				? Mono.empty()
+				: exportPage(page.get(page.size() - 1).id()))
+			.flatMapIterable(page -> page)
+			.map(BoardWithViewCount::toBoard)
+			.limitRate(exportFetchSize);
+	}
+
+	private Mono<List<BoardWithViewCount>> exportPage(long after) {
+		return boardWithViewCountRepository.findAllWithViewCountAfter(after, (long) exportFetchSize)
+			.collectList()
+			.filter(page -> !page.isEmpty());
 	}
 
 	/**
@@ -41,55 +123,139 @@ public class BoardService {
 	public Mono<Board> createBoard(Board board) {
 		return boardCrudRepository.save(board)
 			.contextWrite(Context.of("entityType", "board"))
+			.doOnNext(savedBoard -> {
+				boardDetailCache.invalidate(savedBoard.getId());
+				boardSearchIndex.add(savedBoard);
+			})
 			.flatMap(savedBoard -> 
 				// 조회수 포함한 완전한 Board 조회 후 실시간 알림 발송
 				getBoardById(savedBoard.getId())
 					.doOnNext(completeBoard -> {
-						newPostSink.tryEmitNext(completeBoard);
+						firstPageSnapshot.onCreated(completeBoard);
+						newPostEventStream.publish(completeBoard);
 						System.out.println("📡 새 게시글 실시간 알림 발송: " + completeBoard.getTitle());
 					})
 			);
 	}
 
+	/**
+	 * 게시글 대량 생성 (마이그레이션용)
+	 * chunk 단위로 하나의 배치 INSERT + 트랜잭션으로 저장하고, 재조회 없이 결과를 바로 흘려보낸다.
+	 * 실시간 알림은 chunk 마다 게시글 요약을 묶은 bulk 이벤트 1건으로 발송한다 (재연결 이어받기 버퍼에도 1건으로 기록).
+	 * @param boards 생성할 게시글 스트림 (작성자 정보 포함)
+	 * @return 생성된 게시글 요약 스트림
+	 */
+	public Flux<BoardSummary> createBoards(Flux<Board> boards) {
+		return boards
+			.buffer(bulkChunkSize)
+			.concatMap(chunk -> {
+				// 배치 INSERT 는 감사(auditing) 콜백을 거치지 않으므로 직접 채운다
+				LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+				chunk.forEach(board -> {
+					board.setRegisteredDateTime(now);
+					board.setModifiedDateTime(now);
+				});
+				return boardCrudRepository.insertAll(chunk)
+					.collectList()
+					.as(transactionalOperator::transactional)
+					.doOnNext(this::onBoardsCreated);
+			}, 1)
+			.flatMapIterable(created -> created)
+			.map(BoardSummary::from);
+	}
+
+	private void onBoardsCreated(List<Board> created) {
+		if (created.isEmpty()) {
+			return;
+		}
+		created.forEach(board -> {
+			boardDetailCache.invalidate(board.getId());
+			firstPageSnapshot.onCreated(board);
+			boardSearchIndex.add(board);
+		});
+		newPostEventStream.publishBulk(created);
+		System.out.println("📡 새 게시글 " + created.size() + "건 일괄 등록 알림 발송");
+	}
+
 	/**
 	 * 게시글 상세 조회 (조회수 포함)
 	 * @param id 게시글 ID
 	 * @return 조회수 포함된 게시글
 	 */
 	public Mono<Board> getBoardById(Long id) {
-		return boardWithViewCountRepository.findByIdWithViewCount(id)
-			.flatMap(boardWithViewCount -> 
+		return getBoardById(id, null);
+	}
+
+	/**
+	 * 게시글 상세 조회 (조회수 + 고유 조회자 수 포함)
+	 * 게시글 row는 로컬 캐시에서, 조회수는 실시간 카운터에서 가져온다.
+	 * @param id 게시글 ID
+	 * @param viewerKey 조회자 키 (회원 ID 또는 클라이언트 주소, null 이면 고유 조회자 미기록)
+	 * @return 조회수 포함된 게시글
+	 */
+	public Mono<Board> getBoardById(Long id, String viewerKey) {
+		return boardDetailCache.get(id)
+			.flatMap(cached -> 
 				viewLogService.incrementViewCount(id)
 					.onErrorResume(error -> {
 						System.err.println("조회수 증가 실패: " + error.getMessage());
 						return Mono.empty(); // 에러 무시하고 계속 진행
 					})
-					.then(Mono.just(boardWithViewCount.toBoard()))
+					.then(Mono.fromSupplier(() -> {
+						Board board = cached.row().toBoard();
+						board.setViewCount(liveViewCounter.current(id, cached.viewCountBaseline()));
+						return board;
+					}))
+					.flatMap(board -> uniqueViewerService.recordAndCount(id, viewerKey)
+						.onErrorResume(error -> {
+							System.err.println("고유 조회자 집계 실패: " + error.getMessage());
+							return Mono.empty();
+						})
+						.doOnNext(board::setUniqueViewerCount)
+						.thenReturn(board))
 			);
 	}
 
 	/**
 	 * 새 게시글 실시간 스트림 (SSE용)
-	 * @return 새로 생성된 게시글만 스트리밍
+	 * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (없으면 null)
+	 * @return 놓친 게시글 + 새로 생성된 게시글 스트리밍
 	 */
-	public Flux<Board> getNewPostStream() {
-		return newPostSink.asFlux()
+	public Flux<NewPostEventStream.NewPostEvent> getNewPostStream(String lastEventId) {
+		return newPostEventStream.subscribe(lastEventId)
 			.doOnSubscribe(subscription -> 
 				System.out.println("📡 새 게시글 실시간 스트림 구독 시작 (구독자 수: " + 
-					newPostSink.currentSubscriberCount() + ")")
+					newPostEventStream.currentSubscriberCount() + ")")
 			)
 			.doOnCancel(() -> 
 				System.out.println("📡 새 게시글 실시간 스트림 구독 취소 (구독자 수: " + 
-					newPostSink.currentSubscriberCount() + ")")
+					newPostEventStream.currentSubscriberCount() + ")")
 			);
 	}
 
+	/**
+	 * 댓글 작성 반영 - 캐시/첫 페이지 스냅샷의 댓글 수 갱신 (DB 카운터는 댓글 트랜잭션에서 갱신됨)
+	 * @param boardId 댓글이 달린 게시글 ID
+	 * @param commentCount 댓글 트랜잭션 커밋 시점의 댓글 수
+	 */
+	public void onCommentAdded(Long boardId, long commentCount) {
+		boardDetailCache.updateCommentCount(boardId, commentCount);
+		firstPageSnapshot.updateCommentCount(boardId, commentCount);
+	}
+
 	/**
 	 * 게시글 삭제
 	 * @param id 삭제할 게시글 ID
 	 * @return 삭제 완료 신호
 	 */
 	public Mono<Void> deleteBoard(Long id) {
-		return boardCrudRepository.deleteById(id);
+		return boardCrudRepository.deleteById(id)
+			.doOnSuccess(deleted -> {
+				boardDetailCache.invalidate(id);
+				firstPageSnapshot.onDeleted(id);
+				liveViewCounter.forget(id);
+				uniqueViewerService.forget(id);
+				boardSearchIndex.remove(id);
+			});
 	}
 }
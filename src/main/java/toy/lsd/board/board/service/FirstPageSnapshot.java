@@ -0,0 +1,178 @@
+package toy.lsd.board.board.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+import toy.lsd.board.board.entity.Board;
+import toy.lsd.board.board.repository.BoardSummaryRepository;
+import toy.lsd.board.board.repository.dto.BoardSummary;
+import toy.lsd.board.common.SingleFlight;
+
+/**
+ * 🔥 무한스크롤 첫 페이지 스냅샷
+ *
+ * 최신 N개 게시글 요약을 불변 리스트로 들고 있다가 첫 페이지 요청을 DB 없이 응답한다.
+ * 게시글 생성/삭제 시 스냅샷을 교체하고, 조회수는 {@link LiveViewCounter}로 덧씌운다.
+ * 댓글 수는 댓글 작성 시 커밋 시점의 DB 값으로 스냅샷 항목을 제자리 갱신한다 (큰 쪽을 취함).
+ * (로딩 중 달린 댓글의 값은 따로 모아 두었다가 로딩 결과에 맞춰 설치하므로 로딩을 버리지 않고,
+ *  로딩 SELECT 에 이미 포함된 댓글이어도 두 번 세지 않는다)
+ */
+@Component
+public class FirstPageSnapshot {
+	private final BoardSummaryRepository boardSummaryRepository;
+	private final LiveViewCounter liveViewCounter;
+	private final int capacity;
+
+	// null 이면 아직 로딩 전(또는 삭제로 무효화됨)
+	private final AtomicReference<List<Entry>> snapshot = new AtomicReference<>();
+	// 로딩 중 생성/삭제가 끼어들면 로딩 결과를 버리기 위한 버전
+	private final AtomicLong version = new AtomicLong();
+	private final SingleFlight<Long, List<Entry>> loader = new SingleFlight<>("first-page");
+	// 로딩 중 달린 댓글의 커밋 시점 댓글 수 (게시글 ID → 최댓값, 로딩 중이 아니면 null) - commentLock 으로 보호
+	private final Object commentLock = new Object();
+	private Map<Long, Long> commentsDuringLoad;
+
+	public FirstPageSnapshot(
+			BoardSummaryRepository boardSummaryRepository,
+			LiveViewCounter liveViewCounter,
+			@Value("${board.cache.first-page.size:20}") int capacity) {
+		this.boardSummaryRepository = boardSummaryRepository;
+		this.liveViewCounter = liveViewCounter;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * 스냅샷으로 응답 가능한 크기인지
+	 * @param size 페이지 크기
+	 */
+	public boolean covers(int size) {
+		return size <= capacity;
+	}
+
+	/**
+	 * 첫 페이지 조회 (스냅샷이 없으면 한 번만 로딩)
+	 * @param size 페이지 크기 ({@link #covers(int)} 이내)
+	 * @return 최신 게시글 요약 목록
+	 */
+	public Mono<List<BoardSummary>> firstPage(int size) {
+		return Mono.defer(() -> {
+			List<Entry> current = snapshot.get();
+			if (current != null && current.stream().allMatch(entry -> liveViewCounter.isCurrent(entry.summary().id(), entry.viewCountBaseline()))) {
+				return Mono.just(current);
+			}
+			// 조회수 카운터가 회수된 항목이 있으면 다시 로딩
+			if (current != null) {
+				snapshot.compareAndSet(current, null);
+			}
+			return loader.execute(0L, key -> load());
+		})
+		.map(entries -> entries.stream()
+			.limit(size)
+			.map(entry -> entry.summary()
+				.withViewCount(liveViewCounter.current(entry.summary().id(), entry.viewCountBaseline())))
+			.toList());
+	}
+
+	/**
+	 * 새 게시글을 스냅샷 맨 앞에 반영
+	 * @param board 생성된 게시글
+	 */
+	public void onCreated(Board board) {
+		version.incrementAndGet();
+		Entry created = new Entry(BoardSummary.from(board), liveViewCounter.baselineFromCurrent(board.getId(), board.getViewCount()));
+		snapshot.updateAndGet(entries -> {
+			if (entries == null) {
+				return null;
+			}
+			List<Entry> updated = new ArrayList<>(entries.size() + 1);
+			updated.add(created);
+			entries.stream()
+				.filter(entry -> !entry.summary().id().equals(board.getId()))
+				.forEach(updated::add);
+			updated.sort(Comparator.comparing((Entry entry) -> entry.summary().id()).reversed());
+			return List.copyOf(updated.subList(0, Math.min(capacity, updated.size())));
+		});
+	}
+
+	/**
+	 * 스냅샷에 있는 게시글이면 댓글 수 갱신
+	 * @param id 댓글이 달린 게시글 ID
+	 * @param commentCount 댓글 트랜잭션 커밋 시점의 댓글 수
+	 */
+	public void updateCommentCount(Long id, long commentCount) {
+		synchronized (commentLock) {
+			if (commentsDuringLoad != null) {
+				commentsDuringLoad.merge(id, commentCount, Math::max);
+			}
+			snapshot.updateAndGet(entries -> entries == null || entries.stream().noneMatch(entry -> entry.summary().id().equals(id))
+				? entries
+				: withCommentCounts(entries, Map.of(id, commentCount)));
+		}
+	}
+
+	/**
+	 * 삭제된 게시글이 스냅샷에 있으면 무효화 (다음 요청에서 다시 로딩해 빈자리를 채움)
+	 * @param id 삭제된 게시글 ID
+	 */
+	public void onDeleted(Long id) {
+		version.incrementAndGet();
+		snapshot.updateAndGet(entries -> entries != null && entries.stream().anyMatch(entry -> entry.summary().id().equals(id))
+			? null
+			: entries);
+	}
+
+	private Mono<List<Entry>> load() {
+		return Mono.defer(() -> {
+			long loadingVersion = version.get();
+			Map<Long, Long> comments = new HashMap<>();
+			synchronized (commentLock) {
+				commentsDuringLoad = comments;
+			}
+			return boardSummaryRepository.findAllSummaries((long) capacity, 0L)
+				.map(summary -> new Entry(summary, liveViewCounter.baseline(summary.id(), summary.viewCount())))
+				.collectList()
+				.map(entries -> {
+					synchronized (commentLock) {
+						if (commentsDuringLoad == comments) {
+							commentsDuringLoad = null;
+						}
+						List<Entry> loaded = withCommentCounts(entries, comments);
+						// 로딩 도중 생성/삭제가 있었으면 설치하지 않고 다음 요청에서 다시 로딩
+						if (version.get() == loadingVersion) {
+							snapshot.compareAndSet(null, loaded);
+						}
+						return loaded;
+					}
+				});
+		});
+	}
+
+	/**
+	 * 커밋 시점 댓글 수가 더 크면 반영 (로딩 SELECT 나 이전 갱신에 이미 포함된 댓글은 그대로)
+	 */
+	private static List<Entry> withCommentCounts(List<Entry> entries, Map<Long, Long> commentCounts) {
+		if (commentCounts.isEmpty()) {
+			return List.copyOf(entries);
+		}
+		return entries.stream()
+			.map(entry -> {
+				Long count = commentCounts.get(entry.summary().id());
+				Long current = entry.summary().commentCount();
+				return count == null || (current != null && current >= count)
+					? entry
+					: new Entry(entry.summary().withCommentCount(count), entry.viewCountBaseline());
+			})
+			.toList();
+	}
+
+	private record Entry(BoardSummary summary, LiveViewCounter.Baseline viewCountBaseline) {}
+}
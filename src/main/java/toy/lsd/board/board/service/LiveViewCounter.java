@@ -0,0 +1,162 @@
+package toy.lsd.board.board.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+/**
+ * 👁 이 인스턴스가 기록한 조회수 (캐시된 게시글에 실시간 조회수를 덧씌우는 용도)
+ *
+ * - recorded: 조회 요청이 들어온 누적 건수
+ * - persisted: 그 중 DB 카운터에 반영된 누적 건수
+ *
+ * DB에서 읽은 조회수에서 persisted를 빼 두면(baseline),
+ * 이후에는 baseline + recorded 로 DB 재조회 없이 현재 조회수를 계산할 수 있다.
+ *
+ * 주기적으로 모두 반영되었고(recorded == persisted) 한 주기 동안 조회가 없던 게시글의 카운터는 회수한다.
+ * 기준값은 계산에 쓴 카운터를 함께 들고 있어, 카운터가 회수되면 {@link #isCurrent} 가 false 가 되고
+ * 캐시는 DB에서 다시 읽는다.
+ */
+@Component
+public class LiveViewCounter {
+	private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+	private final Duration pruneInterval;
+
+	private Disposable pruner;
+
+	public LiveViewCounter(@Value("${board.view-count.live.prune-interval:5m}") Duration pruneInterval) {
+		this.pruneInterval = pruneInterval;
+	}
+
+	@PostConstruct
+	void start() {
+		pruner = Flux.interval(pruneInterval, pruneInterval)
+			.onBackpressureDrop()
+			.subscribe(tick -> prune());
+	}
+
+	@PreDestroy
+	void stop() {
+		if (pruner != null) {
+			pruner.dispose();
+		}
+	}
+
+	void recorded(Long boardId) {
+		add(boardId, 1, counter -> counter.recorded);
+	}
+
+	void persisted(Long boardId, long count) {
+		add(boardId, count, counter -> counter.persisted);
+	}
+
+	/**
+	 * DB 조회수에서 이 인스턴스가 이미 반영한 몫을 뺀 기준값
+	 * @param boardId 게시글 ID
+	 * @param persistedViewCount DB에서 읽은 조회수
+	 * @return 기준값
+	 */
+	public Baseline baseline(Long boardId, long persistedViewCount) {
+		Counter counter = counters.computeIfAbsent(boardId, id -> new Counter());
+		return new Baseline(counter, persistedViewCount - counter.persisted.sum());
+	}
+
+	/**
+	 * 이미 덧씌워진 현재 조회수로부터 기준값 역산
+	 * @param boardId 게시글 ID
+	 * @param currentViewCount {@link #current(Long, Baseline)} 로 계산된 조회수
+	 * @return 기준값
+	 */
+	public Baseline baselineFromCurrent(Long boardId, long currentViewCount) {
+		Counter counter = counters.computeIfAbsent(boardId, id -> new Counter());
+		return new Baseline(counter, currentViewCount - counter.recorded.sum());
+	}
+
+	/**
+	 * 기준값에 이 인스턴스가 기록한 조회수를 더한 현재 조회수
+	 * @param boardId 게시글 ID
+	 * @param baseline {@link #baseline(Long, long)} 결과
+	 * @return 현재 조회수
+	 */
+	public long current(Long boardId, Baseline baseline) {
+		return baseline.offset + baseline.counter.recorded.sum();
+	}
+
+	/**
+	 * 기준값을 계산한 카운터가 아직 쓰이는지 (회수되었으면 DB에서 다시 읽어야 함)
+	 * @param boardId 게시글 ID
+	 * @param baseline 캐시에 보관 중인 기준값
+	 */
+	public boolean isCurrent(Long boardId, Baseline baseline) {
+		return counters.get(boardId) == baseline.counter;
+	}
+
+	void forget(Long boardId) {
+		counters.remove(boardId);
+	}
+
+	/**
+	 * 모두 반영되었고 직전 회수 주기 이후 조회가 없던 카운터 회수
+	 */
+	void prune() {
+		counters.forEach((boardId, counter) -> {
+			long recorded = counter.recorded.sum();
+			boolean settled = recorded == counter.persisted.sum() && recorded == counter.lastPruneRecorded;
+			counter.lastPruneRecorded = recorded;
+			if (!settled || !counters.remove(boardId, counter)) {
+				return;
+			}
+			// 반영이 끝난 몫은 버리고, 회수 직전에 더해진 몫만 새 카운터로 옮긴다
+			counter.recorded.add(-recorded);
+			counter.persisted.add(-recorded);
+			add(boardId, counter.recorded.sumThenReset(), c -> c.recorded);
+			add(boardId, counter.persisted.sumThenReset(), c -> c.persisted);
+		});
+	}
+
+	/**
+	 * 게시글 카운터에 누적 (잠금 없음)
+	 * 더한 카운터가 그 사이 회수되었으면 남은 값을 새 카운터로 옮긴다.
+	 * 회수된 카운터의 값은 sumThenReset 으로 옮겨지므로 게시글별 합계는 보존된다.
+	 */
+	private void add(Long boardId, long count, Function<Counter, LongAdder> field) {
+		while (count != 0) {
+			Counter counter = counters.computeIfAbsent(boardId, id -> new Counter());
+			LongAdder adder = field.apply(counter);
+			adder.add(count);
+			if (counters.get(boardId) == counter) {
+				return;
+			}
+			count = adder.sumThenReset();
+		}
+	}
+
+	private static final class Counter {
+		private final LongAdder recorded = new LongAdder();
+		private final LongAdder persisted = new LongAdder();
+		private long lastPruneRecorded = -1;  // 회수 작업에서만 읽고 씀
+	}
+
+	/**
+	 * 조회수 기준값 - 계산에 쓴 카운터와 오프셋
+	 */
+	public static final class Baseline {
+		private final Counter counter;
+		private final long offset;
+
+		private Baseline(Counter counter, long offset) {
+			this.counter = counter;
+			this.offset = offset;
+		}
+	}
+}
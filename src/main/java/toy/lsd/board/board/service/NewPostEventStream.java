@@ -0,0 +1,263 @@
+package toy.lsd.board.board.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.ConnectableFlux;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import toy.lsd.board.board.entity.Board;
+import toy.lsd.board.board.repository.BoardWithViewCountRepository;
+import toy.lsd.board.board.repository.dto.BoardSummary;
+import toy.lsd.board.board.repository.dto.BoardWithViewCount;
+import toy.lsd.board.common.EventSerializer;
+import toy.lsd.board.common.SubscriberQueue;
+
+/**
+ * 📡 새 게시글 이벤트 스트림 (Last-Event-ID 이어받기)
+ *
+ * 발행된 이벤트마다 단조 증가 시퀀스를 붙여 고정 크기 링 버퍼에 보관한다.
+ * SSE id 는 "시퀀스-게시글ID" 형식이며, 재연결 시 Last-Event-ID 로
+ * - 링 버퍼에 남아 있으면 놓친 이벤트만 정확히 다시 보내고
+ * - 버퍼에서 밀려났거나 서버가 재시작되었으면 게시글 ID 기준으로 DB에서 따라잡는다.
+ *   (놓친 게시글이 catch-up-limit 를 넘으면 일부만 보내지 않고 "reset" 이벤트로 목록 새로고침을 요청)
+ * 라이브 구독을 먼저 연결한 뒤 놓친 이벤트를 보내므로 그 사이 발행된 이벤트도 유실되지 않는다.
+ * (그 사이 라이브 이벤트는 live-buffer-size 까지 쌓아 두고, 넘쳐서 버렸으면 "reset" 이벤트를 보낸다)
+ * 라이브 이벤트는 구독자별 큐(SubscriberQueue)를 거쳐 느린 구독자가 다른 구독자를 막지 않는다.
+ * 이벤트 JSON 은 발행 시 한 번만 만들어 모든 구독자(재전송 포함)가 공유한다.
+ * 일괄 등록은 chunk 마다 "bulk" 이벤트 1건으로 묶어 발행해 구독자 큐와 링 버퍼를 한 칸만 쓴다.
+ */
+@Component
+public class NewPostEventStream {
+	private static final Duration EMIT_RETRY_TIMEOUT = Duration.ofMillis(100);
+
+	private final BoardWithViewCountRepository boardWithViewCountRepository;
+	private final EventSerializer eventSerializer;
+	private final Sinks.Many<NewPostEvent> sink = Sinks.many().multicast().directBestEffort();
+	private final AtomicLong sequence = new AtomicLong();
+	private final AtomicReferenceArray<NewPostEvent> ring;
+	private final int mask;
+	private final long catchUpLimit;
+	private final int liveBufferSize;
+	private final SubscriberQueue subscriberQueue;
+
+	public NewPostEventStream(
+			BoardWithViewCountRepository boardWithViewCountRepository,
+			EventSerializer eventSerializer,
+			@Value("${board.new-posts.replay-buffer-size:1024}") int replayBufferSize,
+			@Value("${board.new-posts.catch-up-limit:100}") long catchUpLimit,
+			@Value("${board.new-posts.live-buffer-size:256}") int liveBufferSize,
+			@Value("${board.new-posts.overflow.policy:drop-oldest}") String overflowPolicy,
+			@Value("${board.new-posts.overflow.capacity:256}") int overflowCapacity) {
+		this.boardWithViewCountRepository = boardWithViewCountRepository;
+		this.eventSerializer = eventSerializer;
+		int capacity = Integer.highestOneBit(Math.max(2, replayBufferSize - 1)) << 1;
+		this.ring = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+		this.catchUpLimit = catchUpLimit;
+		this.liveBufferSize = liveBufferSize;
+		this.subscriberQueue = new SubscriberQueue("new-posts", SubscriberQueue.OverflowPolicy.parse(overflowPolicy), overflowCapacity);
+	}
+
+	/**
+	 * 새 게시글 이벤트 발행 (링 버퍼 기록 후 라이브 구독자에게 전달)
+	 * @param board 새 게시글
+	 */
+	public void publish(Board board) {
+		publish(board, eventSerializer.toJson(board), null);
+	}
+
+	/**
+	 * 일괄 등록된 게시글 묶음을 "bulk" 이벤트 1건으로 발행
+	 * 이벤트 id 는 묶음의 최신 게시글 기준이라, 링 버퍼에서 밀려난 뒤 이어받으면 DB에서 그 이후부터 따라잡는다.
+	 * @param boards 한 chunk 에서 생성된 게시글
+	 */
+	public void publishBulk(List<Board> boards) {
+		List<Board> newestFirst = boards.stream()
+			.sorted(Comparator.comparing(Board::getId).reversed())
+			.toList();
+		Board newest = newestFirst.get(0);
+		BulkNewPosts bulk = new BulkNewPosts(newest.getId(), newestFirst.stream().map(BoardSummary::from).toList());
+		publish(newest, eventSerializer.toJson(bulk), NewPostEvent.BULK);
+	}
+
+	private void publish(Board board, String json, String name) {
+		long seq = sequence.incrementAndGet();
+		NewPostEvent event = new NewPostEvent(seq, board, json, name);
+		ring.set((int) (seq & mask), event);
+		sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_TIMEOUT));
+	}
+
+	/**
+	 * 구독 (Last-Event-ID 가 있으면 놓친 이벤트부터)
+	 * @param lastEventId 마지막으로 받은 SSE id (없으면 null)
+	 * @return 새 게시글 이벤트 스트림
+	 */
+	public Flux<NewPostEvent> subscribe(String lastEventId) {
+		EventId resumeFrom = EventId.parse(lastEventId);
+		if (resumeFrom == null) {
+			return subscriberQueue.attach(sink.asFlux());
+		}
+
+		return Flux.defer(() -> {
+			// 라이브를 먼저 연결해 두고(구독 전까지 live-buffer-size 만큼 버퍼링) 놓친 이벤트를 보낸 뒤 이어 붙인다
+			AtomicBoolean overflowed = new AtomicBoolean();
+			ConnectableFlux<NewPostEvent> live = sink.asFlux()
+				.onBackpressureBuffer(liveBufferSize, dropped -> overflowed.set(true), BufferOverflowStrategy.DROP_LATEST)
+				.publish(1);
+			Disposable connection = live.connect();
+			long head = sequence.get();
+
+			Replay replay = replayFromRing(resumeFrom, head);
+			if (replay != null) {
+				System.out.println("📡 새 게시글 이어받기 - 버퍼에서 " + replay.events().size() + "건 재전송");
+				return Flux.concat(
+						Flux.fromIterable(replay.events()),
+						subscriberQueue.attach(resetOnOverflow(
+							live.filter(event -> event.sequence() > head || replay.pending().contains(event.sequence())), overflowed)))
+					.doFinally(signal -> connection.dispose());
+			}
+
+			Set<Long> caughtUp = new HashSet<>();
+			// 한도보다 1건 더 읽어 한도를 넘었는지(중간이 비는지) 확인
+			Flux<NewPostEvent> catchUp = boardWithViewCountRepository
+				.findAllWithViewCountAfter(resumeFrom.boardId(), catchUpLimit + 1)
+				.map(BoardWithViewCount::toBoard)
+				.collectList()
+				.flatMapMany(boards -> {
+					if (boards.size() > catchUpLimit) {
+						System.out.println("📡 새 게시글 이어받기 - 놓친 게시글이 " + catchUpLimit + "건을 넘어 목록 새로고침 요청");
+						return Flux.just(NewPostEvent.reset());
+					}
+					boards.forEach(board -> caughtUp.add(board.getId()));
+					System.out.println("📡 새 게시글 이어받기 - DB에서 " + boards.size() + "건 재전송");
+					return Flux.fromIterable(boards)
+						.map(board -> new NewPostEvent(0, board, eventSerializer.toJson(board)));
+				});
+			return Flux.concat(
+					catchUp,
+					subscriberQueue.attach(resetOnOverflow(
+						live.filter(event -> !caughtUp.contains(event.board().getId())), overflowed)))
+				.doFinally(signal -> connection.dispose());
+		});
+	}
+
+	/**
+	 * 이어받는 동안 라이브 버퍼가 넘쳐 이벤트를 버렸으면 다음 라이브 이벤트 앞에 reset 을 끼워 보냄
+	 * (버퍼가 가득 찬 뒤에만 버리므로 reset 을 실어 보낼 이벤트가 항상 뒤따른다)
+	 */
+	private static Flux<NewPostEvent> resetOnOverflow(Flux<NewPostEvent> live, AtomicBoolean overflowed) {
+		return live.concatMapIterable(event -> {
+			if (!overflowed.getAndSet(false)) {
+				return List.of(event);
+			}
+			System.out.println("📡 새 게시글 이어받기 - 라이브 버퍼가 넘쳐 목록 새로고침 요청");
+			return List.of(NewPostEvent.reset(), event);
+		});
+	}
+
+	public int currentSubscriberCount() {
+		return sink.currentSubscriberCount();
+	}
+
+	public SubscriberQueue.Stats queueStats() {
+		return subscriberQueue.stats();
+	}
+
+	/**
+	 * 링 버퍼에서 resumeFrom 이후 이벤트를 꺼냄
+	 * @return 버퍼로 이어받을 수 없으면(밀려남, 재시작 등) null
+	 */
+	private Replay replayFromRing(EventId resumeFrom, long head) {
+		long from = resumeFrom.sequence();
+		if (from <= 0 || from > head || head - from >= ring.length()) {
+			return null;
+		}
+		// 같은 프로세스에서 발급한 id 인지 확인 (재시작 후 시퀀스가 겹치는 경우)
+		NewPostEvent last = ring.get((int) (from & mask));
+		if (last == null || last.sequence() != from || !last.board().getId().equals(resumeFrom.boardId())) {
+			return null;
+		}
+
+		List<NewPostEvent> events = new ArrayList<>();
+		Set<Long> pending = new HashSet<>();
+		for (long seq = from + 1; seq <= head; seq++) {
+			NewPostEvent event = ring.get((int) (seq & mask));
+			if (event == null || event.sequence() < seq) {
+				pending.add(seq);  // 시퀀스만 발급되고 아직 기록 전 - 라이브로 받는다
+			} else if (event.sequence() > seq) {
+				return null;  // 읽는 사이 덮어써짐
+			} else {
+				events.add(event);
+			}
+		}
+		return new Replay(events, pending);
+	}
+
+	private record Replay(List<NewPostEvent> events, Set<Long> pending) {}
+
+	private record EventId(long sequence, Long boardId) {
+		static EventId parse(String value) {
+			if (value == null || value.isBlank()) {
+				return null;
+			}
+			int separator = value.indexOf('-');
+			try {
+				return new EventId(
+					Long.parseLong(value.substring(0, separator)),
+					Long.parseLong(value.substring(separator + 1)));
+			} catch (RuntimeException e) {
+				return null;  // 형식이 맞지 않으면 처음 연결처럼 처리
+			}
+		}
+	}
+
+	/**
+	 * 새 게시글 이벤트
+	 * @param sequence 발행 시퀀스 (DB에서 따라잡은 이벤트는 0)
+	 * @param board 게시글 (bulk 이벤트는 묶음의 최신 게시글, reset 이벤트는 null)
+	 * @param json 직렬화된 게시글 또는 {@link BulkNewPosts} (구독자 간 공유)
+	 * @param name SSE 이벤트 이름 (일반 게시글은 null)
+	 */
+	public record NewPostEvent(long sequence, Board board, String json, String name) {
+		public static final String BULK = "bulk";
+		public static final String RESET = "reset";
+
+		public NewPostEvent(long sequence, Board board, String json) {
+			this(sequence, board, json, null);
+		}
+
+		/**
+		 * 놓친 게시글을 모두 보낼 수 없을 때 클라이언트에 목록 새로고침을 요청하는 이벤트
+		 */
+		static NewPostEvent reset() {
+			return new NewPostEvent(0, null, "{}", RESET);
+		}
+
+		/**
+		 * SSE id (reset 이벤트는 id 없음 → 클라이언트의 Last-Event-ID 유지)
+		 */
+		public String id() {
+			return board == null ? null : sequence + "-" + board.getId();
+		}
+	}
+
+	/**
+	 * bulk 이벤트 데이터
+	 * @param newestId 묶음의 최신 게시글 ID
+	 * @param boards 묶음의 게시글 요약 (최신순)
+	 */
+	public record BulkNewPosts(Long newestId, List<BoardSummary> boards) {}
+}
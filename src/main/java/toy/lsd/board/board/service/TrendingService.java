@@ -0,0 +1,134 @@
+package toy.lsd.board.board.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Flux;
+import toy.lsd.board.board.repository.BoardSummaryRepository;
+import toy.lsd.board.board.repository.dto.BoardSummary;
+import toy.lsd.board.common.CountMinSketch;
+import toy.lsd.board.common.HeavyHitters;
+
+/**
+ * 📈 슬라이딩 윈도우 인기 게시글 (Count-Min Sketch + heavy hitters)
+ *
+ * 조회 이벤트를 시간 버킷별 Count-Min Sketch 에 더하고, 버킷마다 상위 후보만 min-heap 으로 유지한다.
+ * 조회 시 윈도우에 걸친 버킷의 후보 빈도를 합산해 상위 K개를 고르므로
+ * board_view_log 를 스캔하지 않으며, 메모리는 트래픽과 무관하게 고정이다.
+ */
+@Service
+public class TrendingService {
+	private static final int SKETCH_DEPTH = 4;
+	private static final int SKETCH_WIDTH = 1024;
+
+	private final BoardSummaryRepository boardSummaryRepository;
+	private final long bucketMillis;
+	private final Duration maxWindow;
+	private final Bucket[] buckets;
+
+	public TrendingService(
+			BoardSummaryRepository boardSummaryRepository,
+			@Value("${board.trending.bucket-size:5m}") Duration bucketSize,
+			@Value("${board.trending.max-window:24h}") Duration maxWindow,
+			@Value("${board.trending.candidates-per-bucket:64}") int candidatesPerBucket) {
+		this.boardSummaryRepository = boardSummaryRepository;
+		this.bucketMillis = bucketSize.toMillis();
+		this.maxWindow = maxWindow;
+		this.buckets = new Bucket[(int) (maxWindow.toMillis() / bucketMillis) + 1];
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new Bucket(candidatesPerBucket);
+		}
+	}
+
+	/**
+	 * 조회 이벤트 기록
+	 * @param boardId 게시글 ID
+	 */
+	public void record(Long boardId) {
+		long slot = System.currentTimeMillis() / bucketMillis;
+		Bucket bucket = bucketFor(slot);
+		int estimate = bucket.sketch.addAndEstimate(boardId);
+		bucket.heavyHitters.offer(boardId, estimate);
+	}
+
+	/**
+	 * 윈도우 내 조회수 상위 게시글
+	 * @param window 집계 구간 (버킷 크기 ~ max-window 로 보정)
+	 * @param limit 개수
+	 * @return 조회수 내림차순 인기 게시글
+	 */
+	public Flux<TrendingBoard> getTrending(Duration window, int limit) {
+		Map<Long, Long> counts = countsWithin(window);
+		List<Map.Entry<Long, Long>> top = counts.entrySet().stream()
+			.sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+			.limit(limit)
+			.toList();
+		if (top.isEmpty()) {
+			return Flux.empty();
+		}
+
+		List<Long> ids = top.stream().map(Map.Entry::getKey).toList();
+		return boardSummaryRepository.findAllSummariesByIds(ids)
+			.collectMap(BoardSummary::id, Function.identity())
+			.flatMapIterable(summaries -> top.stream()
+				.filter(entry -> summaries.containsKey(entry.getKey()))  // 삭제된 게시글 제외
+				.map(entry -> new TrendingBoard(summaries.get(entry.getKey()), entry.getValue()))
+				.toList());
+	}
+
+	private Map<Long, Long> countsWithin(Duration window) {
+		long windowMillis = Math.max(bucketMillis, Math.min(window.toMillis(), maxWindow.toMillis()));
+		long currentSlot = System.currentTimeMillis() / bucketMillis;
+		long bucketCount = (windowMillis + bucketMillis - 1) / bucketMillis;
+
+		Map<Long, Long> counts = new HashMap<>();
+		for (long slot = currentSlot - bucketCount + 1; slot <= currentSlot; slot++) {
+			Bucket bucket = buckets[(int) Math.floorMod(slot, (long) buckets.length)];
+			if (bucket.slot != slot) {
+				continue;  // 해당 구간에 기록이 없었던 버킷
+			}
+			for (HeavyHitters.Candidate candidate : bucket.heavyHitters.snapshot()) {
+				counts.merge(candidate.key(), candidate.count(), Long::sum);
+			}
+		}
+		return counts;
+	}
+
+	// 링 버퍼 위치의 버킷이 다른 시간대 것이면 비우고 재사용
+	private Bucket bucketFor(long slot) {
+		Bucket bucket = buckets[(int) Math.floorMod(slot, (long) buckets.length)];
+		if (bucket.slot != slot) {
+			synchronized (bucket) {
+				if (bucket.slot != slot) {
+					bucket.sketch.clear();
+					bucket.heavyHitters.clear();
+					bucket.slot = slot;
+				}
+			}
+		}
+		return bucket;
+	}
+
+	private static final class Bucket {
+		private final CountMinSketch sketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+		private final HeavyHitters heavyHitters;
+		private volatile long slot = -1;
+
+		private Bucket(int candidates) {
+			this.heavyHitters = new HeavyHitters(candidates);
+		}
+	}
+
+	/**
+	 * 인기 게시글
+	 * @param board 게시글 요약
+	 * @param recentViews 윈도우 내 추정 조회수
+	 */
+	public record TrendingBoard(BoardSummary board, long recentViews) {}
+}
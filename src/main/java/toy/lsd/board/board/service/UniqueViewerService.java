@@ -0,0 +1,146 @@
+package toy.lsd.board.board.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import toy.lsd.board.board.entity.BoardUniqueViewer;
+import toy.lsd.board.board.repository.BoardUniqueViewerRepository;
+import toy.lsd.board.common.HyperLogLog;
+import toy.lsd.board.common.LocalCache;
+
+/**
+ * 👥 게시글별 고유 조회자 수 (HyperLogLog)
+ *
+ * 조회자 키(회원 ID 또는 비로그인 클라이언트 주소)를 게시글별 스케치에 넣어
+ * 새로고침/봇 반복 조회와 무관한 고유 조회자 수를 게시글당 4KB로 추정한다.
+ * 스케치는 메모리에서 갱신하고 변경된 것만 주기적으로 저장한다.
+ * 메모리에는 최근 조회된 게시글의 스케치만 크기/TTL 제한 캐시로 두고,
+ * 저장 전에 캐시에서 밀려난 스케치는 저장될 때까지 dirty 목록이 붙잡아 둔다.
+ */
+@Service
+public class UniqueViewerService {
+	private static final Duration SHUTDOWN_PERSIST_TIMEOUT = Duration.ofSeconds(10);
+
+	private final BoardUniqueViewerRepository boardUniqueViewerRepository;
+	private final boolean enabled;
+	private final Duration persistInterval;
+
+	// 게시글별 스케치 (최초 접근 시 저장된 스케치를 한 번 로딩해 cache)
+	private final LocalCache<Long, Mono<HyperLogLog>> sketches;
+	// 아직 저장되지 않은 스케치 (캐시에서 밀려나도 저장 전까지 유지)
+	private final Map<Long, HyperLogLog> dirtySketches = new ConcurrentHashMap<>();
+
+	private Disposable persister;
+
+	public UniqueViewerService(
+			BoardUniqueViewerRepository boardUniqueViewerRepository,
+			@Value("${board.unique-viewers.enabled:true}") boolean enabled,
+			@Value("${board.unique-viewers.persist-interval:30s}") Duration persistInterval,
+			@Value("${board.unique-viewers.cache.maximum-size:10000}") int maximumSize,
+			@Value("${board.unique-viewers.cache.ttl:30m}") Duration ttl) {
+		this.boardUniqueViewerRepository = boardUniqueViewerRepository;
+		this.enabled = enabled;
+		this.persistInterval = persistInterval;
+		this.sketches = new LocalCache<>("unique-viewers", maximumSize, ttl);
+	}
+
+	@PostConstruct
+	void start() {
+		if (!enabled) {
+			return;
+		}
+		persister = Flux.interval(persistInterval)
+			.onBackpressureDrop()
+			.concatMap(tick -> persist(), 1)
+			.subscribe();
+	}
+
+	@PreDestroy
+	void stop() {
+		if (persister == null) {
+			return;
+		}
+		persister.dispose();
+		persist().block(SHUTDOWN_PERSIST_TIMEOUT);
+	}
+
+	/**
+	 * 조회자 기록 후 고유 조회자 수 반환
+	 * @param boardId 게시글 ID
+	 * @param viewerKey 조회자 키 (null 이면 기록하지 않음)
+	 * @return 고유 조회자 추정값 (비활성화 시 empty)
+	 */
+	public Mono<Long> recordAndCount(Long boardId, String viewerKey) {
+		if (!enabled) {
+			return Mono.empty();
+		}
+		return sketch(boardId)
+			.map(sketch -> {
+				if (viewerKey != null && sketch.offer(viewerKey)) {
+					dirtySketches.put(boardId, sketch);
+				}
+				return sketch.estimate();
+			});
+	}
+
+	void forget(Long boardId) {
+		sketches.invalidate(boardId);
+		dirtySketches.remove(boardId);
+	}
+
+	public LocalCache.Stats cacheStats() {
+		return sketches.stats();
+	}
+
+	/**
+	 * 변경된 스케치만 저장
+	 * 저장하는 동안 새 조회자가 들어온 스케치는 dirty 로 남겨 다음 주기에 다시 저장한다.
+	 * @return 저장한 스케치 수
+	 */
+	public Mono<Long> persist() {
+		return Flux.fromIterable(Set.copyOf(dirtySketches.entrySet()))
+			.concatMap(dirty -> {
+				Long boardId = dirty.getKey();
+				HyperLogLog sketch = dirty.getValue();
+				byte[] bytes = sketch.toBytes();
+				return boardUniqueViewerRepository.upsert(boardId, bytes)
+					.doOnSuccess(saved -> {
+						if (Arrays.equals(bytes, sketch.toBytes())) {
+							dirtySketches.remove(boardId, sketch);
+						}
+					})
+					.onErrorResume(error -> {
+						System.err.println("고유 조회자 스케치 저장 실패 (boardId: " + boardId + "): " + error.getMessage());
+						return Mono.empty();
+					});
+			})
+			.count();
+	}
+
+	private Mono<HyperLogLog> sketch(Long boardId) {
+		return sketches.computeIfAbsent(boardId, id -> {
+			// 저장 전에 캐시에서 밀려난 스케치가 있으면 DB 대신 그것을 이어 쓴다
+			HyperLogLog pending = dirtySketches.get(id);
+			if (pending != null) {
+				return Mono.just(pending);
+			}
+			return boardUniqueViewerRepository.findById(id)
+				.map(BoardUniqueViewer::getSketch)
+				.map(HyperLogLog::fromBytes)
+				.defaultIfEmpty(new HyperLogLog())
+				.doOnError(error -> sketches.invalidate(id))
+				.cache();
+		});
+	}
+}
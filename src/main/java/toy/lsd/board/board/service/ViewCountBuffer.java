@@ -0,0 +1,249 @@
+package toy.lsd.board.board.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import toy.lsd.board.board.repository.BoardViewCountRepository;
+import toy.lsd.board.board.repository.BoardViewLogRepository;
+
+/**
+ * 📊 조회수 write-behind 버퍼
+ *
+ * 조회 1건마다 INSERT 하지 않고 게시글별 LongAdder에 누적한 뒤
+ * 백그라운드 플러셔가 건수(batch-size) 또는 시간(flush-interval) 조건으로
+ * 조회 로그와 조회수 카운터를 한 트랜잭션으로 일괄 저장한다.
+ * 종료 시 트리거를 멈추고 진행 중인 플러시가 끝나기를 기다린 뒤 남은 조회수를 모두 플러시한다.
+ */
+@Component
+public class ViewCountBuffer {
+	private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+	private final BoardViewLogRepository boardViewLogRepository;
+	private final BoardViewCountRepository boardViewCountRepository;
+	private final TransactionalOperator transactionalOperator;
+	private final LiveViewCounter liveViewCounter;
+	private final boolean enabled;
+	private final long batchSize;
+	private final Duration flushInterval;
+
+	// 게시글별 미반영 조회수 (LongAdder 내부 셀로 스트라이핑되어 핫 게시글도 경합이 적음)
+	private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+	private final LongAdder pendingTotal = new LongAdder();
+
+	// 건수 조건 플러시 트리거 (중복 트리거 방지)
+	private final Sinks.Many<Long> sizeTrigger = Sinks.many().multicast().directBestEffort();
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+	// 종료 신호 (트리거 중단) / 플러셔 종료 (진행 중이던 플러시까지 끝남)
+	private final Sinks.Empty<Void> stopSignal = Sinks.empty();
+	private final Sinks.Empty<Void> stopped = Sinks.empty();
+
+	// 플러시 지표
+	private final LongAdder flushCount = new LongAdder();
+	private final LongAdder flushedViews = new LongAdder();
+	private final LongAdder failedFlushes = new LongAdder();
+	private final LongAdder totalFlushNanos = new LongAdder();
+	private final AtomicLong lastFlushNanos = new AtomicLong();
+	private final AtomicLong maxFlushNanos = new AtomicLong();
+
+	private Disposable flusher;
+
+	public ViewCountBuffer(
+			BoardViewLogRepository boardViewLogRepository,
+			BoardViewCountRepository boardViewCountRepository,
+			TransactionalOperator transactionalOperator,
+			LiveViewCounter liveViewCounter,
+			@Value("${board.view-count.write-behind.enabled:true}") boolean enabled,
+			@Value("${board.view-count.write-behind.batch-size:500}") long batchSize,
+			@Value("${board.view-count.write-behind.flush-interval:1s}") Duration flushInterval) {
+		this.boardViewLogRepository = boardViewLogRepository;
+		this.boardViewCountRepository = boardViewCountRepository;
+		this.transactionalOperator = transactionalOperator;
+		this.liveViewCounter = liveViewCounter;
+		this.enabled = enabled;
+		this.batchSize = batchSize;
+		this.flushInterval = flushInterval;
+	}
+
+	@PostConstruct
+	void start() {
+		if (!enabled) {
+			return;
+		}
+		flusher = Flux.merge(Flux.interval(flushInterval), sizeTrigger.asFlux())
+			.takeUntilOther(stopSignal.asMono())
+			.onBackpressureDrop()
+			.concatMap(trigger -> flush(), 1)
+			.doFinally(signal -> stopped.tryEmitEmpty())
+			.subscribe();
+		System.out.println("📊 조회수 write-behind 시작 (batch-size: " + batchSize + ", flush-interval: " + flushInterval + ")");
+	}
+
+	@PreDestroy
+	void stop() {
+		if (flusher == null) {
+			return;
+		}
+		// dispose 하면 진행 중인 플러시가 취소되어 꺼낸 조회수가 롤백과 함께 사라지므로,
+		// 트리거만 멈추고 진행 중인 플러시가 끝난 뒤 남은 조회수를 플러시한다
+		stopSignal.tryEmitEmpty();
+		try {
+			stopped.asMono().block(SHUTDOWN_FLUSH_TIMEOUT);
+		} catch (IllegalStateException e) {
+			System.err.println("조회수 플러시 종료 대기 시간 초과: " + e.getMessage());
+			flusher.dispose();
+		}
+		Long flushed = flush().block(SHUTDOWN_FLUSH_TIMEOUT);
+		System.out.println("📊 조회수 write-behind 종료 - 잔여 조회수 플러시: " + flushed);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 조회수 1 누적 (DB 접근 없음)
+	 * @param boardId 게시글 ID
+	 */
+	public void add(Long boardId) {
+		addPending(boardId, 1);
+		pendingTotal.increment();
+
+		if (pendingTotal.sum() >= batchSize && flushRequested.compareAndSet(false, true)) {
+			sizeTrigger.tryEmitNext(batchSize);
+		}
+	}
+
+	/**
+	 * 누적된 조회수를 한 트랜잭션으로 저장
+	 * 실패하면 꺼낸 조회수를 버퍼에 되돌려 다음 플러시에서 재시도한다.
+	 * @return 저장된 조회수
+	 */
+	public Mono<Long> flush() {
+		return Mono.defer(() -> {
+			flushRequested.set(false);
+			Map<Long, Long> drained = drain();
+			if (drained.isEmpty()) {
+				return Mono.just(0L);
+			}
+
+			long startNanos = System.nanoTime();
+			return transactionalOperator.transactional(
+					boardViewLogRepository.insertViewLogs(drained, LocalDateTime.now())
+						.flatMap(saved -> boardViewCountRepository.incrementViewCounts(drained).thenReturn(saved)))
+				.doOnNext(saved -> {
+					drained.forEach(liveViewCounter::persisted);
+					recordFlush(saved, System.nanoTime() - startNanos);
+				})
+				.onErrorResume(error -> {
+					System.err.println("조회수 플러시 실패: " + error.getMessage());
+					failedFlushes.increment();
+					drained.forEach(this::requeue);
+					return Mono.just(0L);
+				});
+		});
+	}
+
+	public Stats stats() {
+		long flushes = flushCount.sum();
+		return new Stats(
+			pendingTotal.sum(),
+			pendingViews.size(),
+			flushes,
+			flushedViews.sum(),
+			failedFlushes.sum(),
+			toMillis(lastFlushNanos.get()),
+			toMillis(maxFlushNanos.get()),
+			flushes == 0 ? 0 : toMillis(totalFlushNanos.sum() / flushes)
+		);
+	}
+
+	// sumThenReset은 셀 단위 getAndSet이라 동시에 들어온 증가분이 유실되지 않는다
+	// 직전 플러시 이후 조회가 없던 게시글의 카운터는 맵에서 회수한다
+	private Map<Long, Long> drain() {
+		Map<Long, Long> drained = new HashMap<>();
+		pendingViews.forEach((boardId, adder) -> {
+			long count = adder.sumThenReset();
+			if (count == 0 && pendingViews.remove(boardId, adder)) {
+				// 회수 직전에 들어온 증가분 (회수 후 증가분은 addPending 이 옮긴다)
+				count = adder.sumThenReset();
+			}
+			if (count > 0) {
+				drained.put(boardId, count);
+				pendingTotal.add(-count);
+			}
+		});
+		return drained;
+	}
+
+	private void requeue(Long boardId, Long count) {
+		addPending(boardId, count);
+		pendingTotal.add(count);
+	}
+
+	/**
+	 * 게시글 카운터에 누적 (잠금 없음)
+	 * 더한 카운터가 그 사이 drain 에서 회수되었으면 남은 값을 새 카운터로 옮긴다.
+	 * 회수된 카운터의 값은 drain 또는 여기서 sumThenReset 으로 정확히 한 번만 꺼내진다.
+	 */
+	private void addPending(Long boardId, long count) {
+		while (count > 0) {
+			LongAdder adder = pendingViews.computeIfAbsent(boardId, id -> new LongAdder());
+			adder.add(count);
+			if (pendingViews.get(boardId) == adder) {
+				return;
+			}
+			count = adder.sumThenReset();
+		}
+	}
+
+	private void recordFlush(long saved, long elapsedNanos) {
+		flushCount.increment();
+		flushedViews.add(saved);
+		totalFlushNanos.add(elapsedNanos);
+		lastFlushNanos.set(elapsedNanos);
+		maxFlushNanos.accumulateAndGet(elapsedNanos, Math::max);
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	/**
+	 * 📈 write-behind 지표
+	 * @param pendingViews 아직 저장되지 않은 조회수
+	 * @param pendingBoards 버퍼에 등록된 게시글 수
+	 * @param flushCount 성공한 플러시 횟수
+	 * @param flushedViews 저장된 누적 조회수
+	 * @param failedFlushes 실패한 플러시 횟수
+	 * @param lastFlushMillis 마지막 플러시 소요 시간
+	 * @param maxFlushMillis 최대 플러시 소요 시간
+	 * @param avgFlushMillis 평균 플러시 소요 시간
+	 */
+	public record Stats(
+		long pendingViews,
+		int pendingBoards,
+		long flushCount,
+		long flushedViews,
+		long failedFlushes,
+		double lastFlushMillis,
+		double maxFlushMillis,
+		double avgFlushMillis
+	) {}
+}
@@ -0,0 +1,78 @@
+package toy.lsd.board.board.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import toy.lsd.board.board.repository.BoardViewCountRepository;
+
+/**
+ * 🔁 조회수 카운터(board_view_count) 백필 및 정합성 보정 작업
+ *
+ * 카운터는 조회 로그와 같은 트랜잭션에서 증가하지만,
+ * 수동 데이터 수정 등으로 누락된 값을 주기적으로 로그 집계 기준으로 채운다.
+ * 동시에 진행 중인 플러시를 덮어쓰지 않도록 카운터를 낮추지는 않는다.
+ */
+@Component
+public class ViewCountReconciler {
+	private final BoardViewCountRepository boardViewCountRepository;
+	private final boolean enabled;
+	private final Duration interval;
+
+	private Disposable reconcileJob;
+
+	public ViewCountReconciler(
+			BoardViewCountRepository boardViewCountRepository,
+			@Value("${board.view-count.reconcile.enabled:false}") boolean enabled,
+			@Value("${board.view-count.reconcile.interval:1h}") Duration interval) {
+		this.boardViewCountRepository = boardViewCountRepository;
+		this.enabled = enabled;
+		this.interval = interval;
+	}
+
+	@PostConstruct
+	void start() {
+		if (!enabled) {
+			return;
+		}
+		reconcileJob = Flux.interval(interval, interval)
+			.onBackpressureDrop()
+			.concatMap(tick -> reconcile()
+				.onErrorResume(error -> {
+					System.err.println("조회수 정합성 보정 실패: " + error.getMessage());
+					return Mono.empty();
+				}), 1)
+			.subscribe();
+	}
+
+	@PreDestroy
+	void stop() {
+		if (reconcileJob != null) {
+			reconcileJob.dispose();
+		}
+	}
+
+	/**
+	 * 1회성 백필 - 카운터 테이블 도입 시 기존 조회 로그로 초기값을 채운다
+	 * @return 반영된 row 수
+	 */
+	public Mono<Long> backfill() {
+		return boardViewCountRepository.backfill()
+			.doOnNext(rows -> System.out.println("🔁 조회수 카운터 백필 완료: " + rows + "건"));
+	}
+
+	/**
+	 * 로그 집계보다 작거나 없는 카운터만 보정
+	 * @return 반영된 row 수 (MySQL affected rows 기준)
+	 */
+	public Mono<Long> reconcile() {
+		return boardViewCountRepository.reconcile()
+			.doOnNext(rows -> System.out.println("🔁 조회수 카운터 정합성 보정: " + rows + "건"));
+	}
+}
@@ -0,0 +1,125 @@
+package toy.lsd.board.board.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import toy.lsd.board.board.repository.BoardViewLogRepository;
+
+/**
+ * 🗜️ board_view_log 보존/롤업 작업
+ *
+ * 보존 기간(retention)이 지난 원본 조회 로그를 게시글/시간 단위 집계(board_view_log_hourly)로 옮기고
+ * 원본은 batch-size 단위로 삭제해 핫 테이블과 인덱스를 작게 유지한다.
+ * 배치는 한 번에 하나씩(concatMap) 실행하고 배치 사이에 간격을 두어 DB 부하를 제한한다.
+ */
+@Component
+public class ViewLogRollupJob {
+	private final BoardViewLogRepository boardViewLogRepository;
+	private final TransactionalOperator transactionalOperator;
+	private final boolean enabled;
+	private final Duration interval;
+	private final Duration retention;
+	private final int batchSize;
+	private final Duration batchDelay;
+
+	private final LongAdder rolledUpRows = new LongAdder();
+	private final LongAdder batches = new LongAdder();
+
+	private Disposable rollupJob;
+
+	public ViewLogRollupJob(
+			BoardViewLogRepository boardViewLogRepository,
+			TransactionalOperator transactionalOperator,
+			@Value("${board.view-log.rollup.enabled:false}") boolean enabled,
+			@Value("${board.view-log.rollup.interval:10m}") Duration interval,
+			@Value("${board.view-log.rollup.retention:7d}") Duration retention,
+			@Value("${board.view-log.rollup.batch-size:5000}") int batchSize,
+			@Value("${board.view-log.rollup.batch-delay:200ms}") Duration batchDelay) {
+		this.boardViewLogRepository = boardViewLogRepository;
+		this.transactionalOperator = transactionalOperator;
+		this.enabled = enabled;
+		this.interval = interval;
+		this.retention = retention;
+		this.batchSize = batchSize;
+		this.batchDelay = batchDelay;
+	}
+
+	@PostConstruct
+	void start() {
+		if (!enabled) {
+			return;
+		}
+		rollupJob = Flux.interval(interval, interval)
+			.onBackpressureDrop()
+			.concatMap(tick -> rollup()
+				.onErrorResume(error -> {
+					System.err.println("조회 로그 롤업 실패: " + error.getMessage());
+					return Mono.empty();
+				}), 1)
+			.subscribe();
+	}
+
+	@PreDestroy
+	void stop() {
+		if (rollupJob != null) {
+			rollupJob.dispose();
+		}
+	}
+
+	/**
+	 * 보존 기간이 지난 원본 로그를 모두 롤업
+	 * cutoff 는 정시로 맞춰 한 시간대가 여러 번에 나뉘어 집계되지 않게 한다.
+	 * @return 롤업된 원본 로그 건수
+	 */
+	public Mono<Long> rollup() {
+		return Mono.defer(() -> {
+			LocalDateTime cutoff = LocalDateTime.now().minus(retention).truncatedTo(ChronoUnit.HOURS);
+			return Flux.range(0, Integer.MAX_VALUE)
+				.concatMap(batch -> rollupBatch(cutoff)
+					.delayUntil(rows -> rows == 0 ? Mono.empty() : Mono.delay(batchDelay)), 1)
+				.takeUntil(rows -> rows < batchSize)
+				.reduce(0L, Long::sum)
+				.doOnNext(total -> {
+					if (total > 0) {
+						System.out.println("🗜️ 조회 로그 롤업 완료 (cutoff: " + cutoff + "): " + total + "건");
+					}
+				});
+		});
+	}
+
+	public Stats stats() {
+		return new Stats(rolledUpRows.sum(), batches.sum());
+	}
+
+	// 배치 하나: 집계 upsert 와 원본 삭제를 한 트랜잭션으로
+	private Mono<Long> rollupBatch(LocalDateTime cutoff) {
+		return boardViewLogRepository.findRollupBoundary(cutoff, batchSize)
+			.filter(maxId -> maxId > 0)
+			.flatMap(maxId -> boardViewLogRepository.rollupUpTo(maxId, cutoff)
+				.then(boardViewLogRepository.deleteUpTo(maxId, cutoff))
+				.as(transactionalOperator::transactional))
+			.doOnNext(deleted -> {
+				rolledUpRows.add(deleted);
+				batches.increment();
+			})
+			.defaultIfEmpty(0L);
+	}
+
+	/**
+	 * 📈 롤업 지표
+	 * @param rolledUpRows 집계로 옮기고 삭제한 원본 로그 누적 건수
+	 * @param batches 실행한 배치 수
+	 */
+	public record Stats(long rolledUpRows, long batches) {}
+}
@@ -1,25 +1,45 @@
 package toy.lsd.board.board.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
 import toy.lsd.board.board.entity.BoardViewLog;
+import toy.lsd.board.board.repository.BoardViewCountRepository;
 import toy.lsd.board.board.repository.BoardViewLogRepository;
 
 @Service
 @RequiredArgsConstructor
 public class ViewLogService {
 	private final BoardViewLogRepository boardViewLogRepository;
+	private final BoardViewCountRepository boardViewCountRepository;
+	private final TransactionalOperator transactionalOperator;
+	private final ViewCountBuffer viewCountBuffer;
+	private final LiveViewCounter liveViewCounter;
+	private final TrendingService trendingService;
 
 	// 조회수 증가
 	public Mono<Void> incrementViewCount(Long boardId) {
+		liveViewCounter.recorded(boardId);
+		trendingService.record(boardId);
+
+		// write-behind 모드: 메모리에 누적하고 플러셔가 일괄 저장
+		if (viewCountBuffer.isEnabled()) {
+			viewCountBuffer.add(boardId);
+			return Mono.empty();
+		}
+
 		BoardViewLog viewLog = new BoardViewLog();
 		viewLog.setBoardId(boardId);
 
+		// 조회 로그와 카운터를 같은 트랜잭션으로 저장
 		return boardViewLogRepository.save(viewLog)
 			.contextWrite(Context.of("entityType", "board_view_log"))
+			.then(boardViewCountRepository.increment(boardId))
+			.as(transactionalOperator::transactional)
+			.doOnSuccess(updated -> liveViewCounter.persisted(boardId, 1))
 			.then(); // 결과값은 무시하고 완료 신호만 반환
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package toy.lsd.board.comment.controller;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import toy.lsd.board.comment.service.CommentGroupCommitter;
+import toy.lsd.board.comment.service.CommentService;
+import toy.lsd.board.comment.service.CommentTopicRegistry;
+import toy.lsd.board.common.SubscriberQueue;
+
+/**
+ * 🛠️ 댓글 운영용 컨트롤러 - ADMIN 권한만 허용
+ */
+@RestController
+@RequestMapping("/api/admin/comments")
+@PreAuthorize("hasRole('ADMIN')")  // 👑 ADMIN 권한만 허용
+@RequiredArgsConstructor
+public class CommentAdminController {
+	private final CommentService commentService;
+
+	/**
+	 * 📈 댓글 스트림 구독자 큐 지표 (큐 깊이, 버려진 이벤트, 끊긴 연결)
+	 */
+	@GetMapping("/metrics/stream")
+	public Mono<SubscriberQueue.Stats> getStreamMetrics() {
+		return Mono.fromSupplier(commentService::streamStats);
+	}
+
+	/**
+	 * 📈 게시글별 댓글 토픽 지표 (활성 토픽 수, 토픽별 구독자 수)
+	 */
+	@GetMapping("/metrics/topics")
+	public Mono<CommentTopicRegistry.Stats> getTopicMetrics() {
+		return Mono.fromSupplier(commentService::topicStats);
+	}
+
+	/**
+	 * 📈 댓글 그룹 커밋 지표 (배치 수, 평균 배치 크기)
+	 */
+	@GetMapping("/metrics/group-commit")
+	public Mono<CommentGroupCommitter.Stats> getGroupCommitMetrics() {
+		return Mono.fromSupplier(commentService::groupCommitStats);
+	}
+}
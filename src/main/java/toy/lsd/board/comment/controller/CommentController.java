@@ -1,11 +1,17 @@
 package toy.lsd.board.comment.controller;
 
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
@@ -21,24 +27,45 @@ import toy.lsd.board.comment.service.CommentService;
 @RequestMapping("/api/boards/{boardId}/comments")
 @RequiredArgsConstructor
 public class CommentController {
+	private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
 	private final CommentService commentService;
 
 	/**
 	 * 댓글 목록 조회 - 로그인된 사용자만 허용
+	 *
+	 * 최신순 키셋 페이지네이션: ?before=<cursor>&size=N (before 없으면 첫 페이지)
+	 * 다음 페이지가 있으면 X-Next-Cursor 헤더로 다음 커서를 내려준다.
+	 * 스트림 cursor 이벤트의 before 값도 그대로 쓸 수 있다.
 	 */
 	@GetMapping
 	@PreAuthorize("hasAnyRole('USER', 'ADMIN')")  // 👤 로그인 필요
-	public Flux<Comment> getComments(@PathVariable Long boardId) {
-		return commentService.getComments(boardId);
+	public Mono<ResponseEntity<List<Comment>>> getComments(
+			@PathVariable Long boardId,
+			@RequestParam(required = false) String before,
+			@RequestParam(required = false) Integer size) {
+		return commentService.getComments(boardId, before, size)
+			.map(page -> {
+				ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+				if (page.nextCursor() != null) {
+					response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+				}
+				return response.body(page.comments());
+			});
 	}
 
 	/**
 	 * 댓글 실시간 스트림 - 로그인된 사용자만 허용
+	 * 최근 댓글 뒤에 더 오래된 댓글이 있으면 cursor 이벤트({"before": 커서})를 보낸다.
+	 * 이벤트 데이터는 미리 직렬화된 JSON 을 그대로 전송한다.
 	 */
-	@GetMapping(value = "/stream")
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
 	@PreAuthorize("hasAnyRole('USER', 'ADMIN')")  // 👤 로그인 필요
-	public Flux<Comment> streamComments(@PathVariable Long boardId) {
-		return commentService.streamComments(boardId);
+	public Flux<ServerSentEvent<String>> streamComments(@PathVariable Long boardId) {
+		return commentService.streamComments(boardId)
+			.map(event -> ServerSentEvent.builder(event.json())
+				.event(event.name())
+				.build());
 	}
 	
 	/**
@@ -0,0 +1,23 @@
+package toy.lsd.board.comment.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 게시글별 댓글 수 카운터 (comment 집계를 비정규화한 값)
+ */
+@Getter
+@Setter
+@Table("board_comment_count")
+public class BoardCommentCount {
+	@Id
+	@Column("board_id")
+	private Long boardId;
+
+	@Column("comment_count")
+	private Long commentCount;
+}
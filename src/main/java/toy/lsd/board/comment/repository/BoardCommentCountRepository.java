@@ -0,0 +1,34 @@
+package toy.lsd.board.comment.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Mono;
+import toy.lsd.board.comment.entity.BoardCommentCount;
+
+@Repository
+public interface BoardCommentCountRepository extends R2dbcRepository<BoardCommentCount, Long> {
+    @Modifying
+    @Query("""
+        INSERT INTO board_comment_count (board_id, comment_count)
+        VALUES (:boardId, 1)
+        ON DUPLICATE KEY UPDATE comment_count = comment_count + 1
+        """)
+    Mono<Long> increment(Long boardId);
+
+    @Modifying
+    @Query("""
+        INSERT INTO board_comment_count (board_id, comment_count)
+        VALUES (:boardId, :count)
+        ON DUPLICATE KEY UPDATE comment_count = comment_count + :count
+        """)
+    Mono<Long> incrementBy(Long boardId, Long count);
+
+    /**
+     * 댓글 수 조회 - 증가시킨 트랜잭션 안에서 읽으면 행 잠금 덕분에 커밋 시점의 값이다
+     */
+    @Query("SELECT comment_count FROM board_comment_count WHERE board_id = :boardId")
+    Mono<Long> findCommentCount(Long boardId);
+}
@@ -0,0 +1,19 @@
+package toy.lsd.board.comment.repository;
+
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+import toy.lsd.board.comment.entity.Comment;
+
+/**
+ * 댓글 일괄 저장용 커스텀 리포지토리 (그룹 커밋 전용)
+ */
+public interface CommentBatchRepository {
+	/**
+	 * 댓글 목록을 하나의 multi-row INSERT 로 저장
+	 * 감사 필드(registrant, registered_ymdt 등)는 호출자가 채워야 한다.
+	 * @param comments 저장할 댓글 (ID 없음)
+	 * @return 생성된 ID가 채워진 댓글 (입력 순서 유지)
+	 */
+	Flux<Comment> insertAll(List<Comment> comments);
+}
@@ -0,0 +1,68 @@
+package toy.lsd.board.comment.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import toy.lsd.board.comment.entity.Comment;
+
+@RequiredArgsConstructor
+public class CommentBatchRepositoryImpl implements CommentBatchRepository {
+	private static final String INSERT_COMMENTS = """
+		INSERT INTO comment (board_id, content, registrant, registered_ymdt, modifier, modified_ymdt)
+		VALUES """;
+	private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+	private static final int COLUMNS = 6;
+
+	private final DatabaseClient databaseClient;
+
+	@Override
+	public Flux<Comment> insertAll(List<Comment> comments) {
+		if (comments.isEmpty()) {
+			return Flux.empty();
+		}
+
+		String sql = INSERT_COMMENTS + String.join(", ", Collections.nCopies(comments.size(), ROW_PLACEHOLDER));
+		return databaseClient.inConnection(connection -> {
+				Statement statement = connection.createStatement(sql).returnGeneratedValues("id");
+				for (int i = 0; i < comments.size(); i++) {
+					bind(statement, i * COLUMNS, comments.get(i));
+				}
+				// multi-row INSERT 의 생성 ID는 첫 row 의 ID (LAST_INSERT_ID)
+				return Flux.from(statement.execute())
+					.concatMap(result -> result.map((row, metadata) -> row.get("id", Long.class)))
+					.next();
+			})
+			.switchIfEmpty(Mono.error(() -> new IllegalStateException("No generated id returned for comment batch")))
+			.flatMapIterable(firstId -> {
+				// 단일 multi-row INSERT 는 연속된 auto-increment 블록을 받는다 (auto_increment_increment = 1 기준)
+				for (int i = 0; i < comments.size(); i++) {
+					comments.get(i).setId(firstId + i);
+				}
+				return comments;
+			});
+	}
+
+	private static void bind(Statement statement, int offset, Comment comment) {
+		bindNullable(statement, offset, comment.getBoardId(), Long.class);
+		bindNullable(statement, offset + 1, comment.getContent(), String.class);
+		bindNullable(statement, offset + 2, comment.getRegistrant(), String.class);
+		bindNullable(statement, offset + 3, comment.getRegisteredDateTime(), LocalDateTime.class);
+		bindNullable(statement, offset + 4, comment.getModifier(), String.class);
+		bindNullable(statement, offset + 5, comment.getModifiedDateTime(), LocalDateTime.class);
+	}
+
+	private static void bindNullable(Statement statement, int index, Object value, Class<?> type) {
+		if (value == null) {
+			statement.bindNull(index, type);
+		} else {
+			statement.bind(index, value);
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package toy.lsd.board.comment.repository;
 
-import org.springframework.data.domain.Sort;
+import java.time.LocalDateTime;
+
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,6 +10,29 @@ import reactor.core.publisher.Flux;
 import toy.lsd.board.comment.entity.Comment;
 
 @Repository
-public interface CommentCrudRepository extends ReactiveCrudRepository<Comment, Long> {
-	Flux<Comment> findAllByBoardId(Long boardId, Sort registeredDateTime);
+public interface CommentCrudRepository extends ReactiveCrudRepository<Comment, Long>, CommentBatchRepository {
+	/**
+	 * 게시글의 최신 댓글 limit 건 (최신순)
+	 */
+	@Query("""
+		SELECT * FROM comment
+		WHERE board_id = :boardId
+		ORDER BY registered_ymdt DESC, id DESC
+		LIMIT :limit
+		""")
+	Flux<Comment> findRecentByBoardId(Long boardId, Long limit);
+
+	/**
+	 * 키셋(커서) 조회 - (registered_ymdt, id) 가 커서보다 이전인 댓글을 최신순으로 limit 건
+	 * comment(board_id, registered_ymdt, id) 복합 인덱스 범위 스캔 (db/comment_index.sql)
+	 */
+	@Query("""
+		SELECT * FROM comment
+		WHERE board_id = :boardId
+		  AND (registered_ymdt < :registeredDateTime
+		       OR (registered_ymdt = :registeredDateTime AND id < :id))
+		ORDER BY registered_ymdt DESC, id DESC
+		LIMIT :limit
+		""")
+	Flux<Comment> findByBoardIdBefore(Long boardId, LocalDateTime registeredDateTime, Long id, Long limit);
 }
@@ -0,0 +1,230 @@
+package toy.lsd.board.comment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.ReactiveAuditorAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.Context;
+import toy.lsd.board.comment.entity.Comment;
+import toy.lsd.board.comment.repository.BoardCommentCountRepository;
+import toy.lsd.board.comment.repository.CommentCrudRepository;
+
+/**
+ * 🧺 댓글 그룹 커밋 (opt-in)
+ *
+ * 동시에 들어온 댓글 작성 요청을 max-batch-size 건 또는 max-wait 동안 모아
+ * 하나의 multi-row INSERT + 댓글 수 갱신을 한 트랜잭션으로 커밋한다.
+ * 각 호출자는 커밋이 끝난 뒤 자기 댓글(생성 ID, 작성 시각 포함)과 커밋 시점의 게시글 댓글 수를 돌려받는다.
+ * 커밋 중에 다음 배치가 차도 기다렸다가 넘기며(fair backpressure),
+ * 파이프라인이 예기치 않게 끝나면 대기 중인 요청을 실패 처리하고 새로 시작한다.
+ * 종료 시에는 남은 요청의 마지막 배치 커밋을 기다린다.
+ */
+@Component
+public class CommentGroupCommitter {
+	private static final Duration EMIT_RETRY_TIMEOUT = Duration.ofMillis(100);
+	private static final Duration SHUTDOWN_COMMIT_TIMEOUT = Duration.ofSeconds(10);
+
+	private final CommentCrudRepository commentCrudRepository;
+	private final BoardCommentCountRepository boardCommentCountRepository;
+	private final TransactionalOperator transactionalOperator;
+	private final ReactiveAuditorAware<String> auditorAware;
+	private final boolean enabled;
+	private final int maxBatchSize;
+	private final Duration maxWait;
+
+	private volatile Sinks.Many<PendingComment> queue = Sinks.many().unicast().onBackpressureBuffer();
+	private final Sinks.Empty<Void> stopped = Sinks.empty();
+	private volatile boolean stopping;
+
+	// 그룹 커밋 지표
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder committedComments = new LongAdder();
+	private final LongAdder failedBatches = new LongAdder();
+
+	private Disposable committer;
+
+	public CommentGroupCommitter(
+			CommentCrudRepository commentCrudRepository,
+			BoardCommentCountRepository boardCommentCountRepository,
+			TransactionalOperator transactionalOperator,
+			ReactiveAuditorAware<String> auditorAware,
+			@Value("${comment.group-commit.enabled:false}") boolean enabled,
+			@Value("${comment.group-commit.max-batch-size:256}") int maxBatchSize,
+			@Value("${comment.group-commit.max-wait:5ms}") Duration maxWait) {
+		this.commentCrudRepository = commentCrudRepository;
+		this.boardCommentCountRepository = boardCommentCountRepository;
+		this.transactionalOperator = transactionalOperator;
+		this.auditorAware = auditorAware;
+		this.enabled = enabled;
+		this.maxBatchSize = maxBatchSize;
+		this.maxWait = maxWait;
+	}
+
+	@PostConstruct
+	void start() {
+		if (!enabled) {
+			return;
+		}
+		startCommitter(queue);
+		System.out.println("🧺 댓글 그룹 커밋 시작 (max-batch-size: " + maxBatchSize + ", max-wait: " + maxWait + ")");
+	}
+
+	private void startCommitter(Sinks.Many<PendingComment> source) {
+		committer = source.asFlux()
+			// 커밋이 끝나기 전에 다음 배치가 차도 버리지 않고 요청이 올 때까지 기다린다
+			.bufferTimeout(maxBatchSize, maxWait, true)
+			.concatMap(this::commit, 1)
+			// 파이프라인이 중단되면 큐/버퍼에 남은 요청은 실패로 완료
+			.doOnDiscard(Object.class, CommentGroupCommitter::failDiscarded)
+			.subscribe(
+				null,
+				error -> {
+					System.err.println("댓글 그룹 커밋 중단: " + error.getMessage());
+					if (stopping) {
+						stopped.tryEmitEmpty();
+						return;
+					}
+					// 새 큐로 다시 시작 (unicast 큐는 다시 구독할 수 없음)
+					Sinks.Many<PendingComment> restarted = Sinks.many().unicast().onBackpressureBuffer();
+					queue = restarted;
+					startCommitter(restarted);
+				},
+				stopped::tryEmitEmpty
+			);
+	}
+
+	@PreDestroy
+	void stop() {
+		if (committer == null) {
+			return;
+		}
+		// 남은 요청은 마지막 배치로 커밋하고 끝날 때까지 기다린다 (커넥션 풀 종료 전)
+		stopping = true;
+		queue.tryEmitComplete();
+		try {
+			stopped.asMono().block(SHUTDOWN_COMMIT_TIMEOUT);
+			System.out.println("🧺 댓글 그룹 커밋 종료");
+		} catch (IllegalStateException e) {
+			System.err.println("댓글 그룹 커밋 종료 대기 시간 초과: " + e.getMessage());
+			committer.dispose();
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 다음 배치에 댓글 추가
+	 * @param comment 작성할 댓글
+	 * @return 배치 커밋 후 저장된 댓글과 게시글 댓글 수
+	 */
+	Mono<CommittedComment> submit(Comment comment) {
+		return Mono.create(sink -> {
+			Sinks.EmitFailureHandler retry = Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_TIMEOUT);
+			queue.emitNext(new PendingComment(comment, sink), (signalType, result) -> {
+				if (retry.onEmitFailure(signalType, result)) {
+					return true;
+				}
+				// 종료 중이거나 큐가 닫혔으면 기다리지 않고 실패
+				sink.error(new IllegalStateException("Comment group commit is not accepting comments: " + result));
+				return false;
+			});
+		});
+	}
+
+	private static void failDiscarded(Object discarded) {
+		if (discarded instanceof PendingComment pending) {
+			pending.sink().error(new IllegalStateException("Comment group commit stopped"));
+		} else if (discarded instanceof List<?> batch) {
+			batch.forEach(CommentGroupCommitter::failDiscarded);
+		}
+	}
+
+	private Mono<Void> commit(List<PendingComment> batch) {
+		List<Comment> comments = batch.stream().map(PendingComment::comment).toList();
+		Map<Long, Long> countsByBoard = comments.stream()
+			.collect(Collectors.groupingBy(Comment::getBoardId, Collectors.counting()));
+
+		return auditorAware.getCurrentAuditor()
+			.contextWrite(Context.of("entityType", "comment"))
+			.defaultIfEmpty("system")
+			.flatMap(auditor -> {
+				// 배치 INSERT 는 감사(auditing) 콜백을 거치지 않으므로 직접 채운다
+				LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+				comments.forEach(comment -> {
+					comment.setRegistrant(auditor);
+					comment.setRegisteredDateTime(now);
+					comment.setModifier(auditor);
+					comment.setModifiedDateTime(now);
+				});
+				return commentCrudRepository.insertAll(comments)
+					.then(Flux.fromIterable(countsByBoard.entrySet())
+						.concatMap(entry -> boardCommentCountRepository.incrementBy(entry.getKey(), entry.getValue())
+							.then(boardCommentCountRepository.findCommentCount(entry.getKey()))
+							.map(commentCount -> Map.entry(entry.getKey(), commentCount)))
+						.collectMap(Map.Entry::getKey, Map.Entry::getValue))
+					.as(transactionalOperator::transactional);
+			})
+			.doOnNext(commentCounts -> {
+				batches.increment();
+				committedComments.add(batch.size());
+				batch.forEach(pending -> pending.sink().success(
+					new CommittedComment(pending.comment(), commentCounts.get(pending.comment().getBoardId()))));
+			})
+			.then()
+			.onErrorResume(error -> {
+				System.err.println("댓글 그룹 커밋 실패 (" + batch.size() + "건): " + error.getMessage());
+				failedBatches.increment();
+				batch.forEach(pending -> pending.sink().error(error));
+				return Mono.empty();
+			});
+	}
+
+	public Stats stats() {
+		long batchCount = batches.sum();
+		long committed = committedComments.sum();
+		return new Stats(
+			enabled,
+			batchCount,
+			committed,
+			failedBatches.sum(),
+			batchCount == 0 ? 0 : (double) committed / batchCount
+		);
+	}
+
+	private record PendingComment(Comment comment, MonoSink<CommittedComment> sink) {}
+
+	/**
+	 * 커밋된 댓글
+	 * @param comment 저장된 댓글
+	 * @param boardCommentCount 커밋 시점의 게시글 댓글 수 (이 댓글 포함)
+	 */
+	record CommittedComment(Comment comment, long boardCommentCount) {}
+
+	/**
+	 * 📈 그룹 커밋 지표
+	 * @param enabled 그룹 커밋 사용 여부
+	 * @param batches 커밋된 배치 수
+	 * @param committedComments 배치로 저장된 댓글 수
+	 * @param failedBatches 실패한 배치 수
+	 * @param avgBatchSize 평균 배치 크기
+	 */
+	public record Stats(boolean enabled, long batches, long committedComments, long failedBatches, double avgBatchSize) {}
+}
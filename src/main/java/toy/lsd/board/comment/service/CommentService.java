@@ -1,36 +1,202 @@
 package toy.lsd.board.comment.service;
 
-import org.springframework.data.domain.Sort;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
-import lombok.RequiredArgsConstructor;
+import reactor.core.Disposable;
+import reactor.core.publisher.ConnectableFlux;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
 import reactor.util.context.Context;
+import toy.lsd.board.board.service.BoardService;
 import toy.lsd.board.comment.entity.Comment;
+import toy.lsd.board.comment.repository.BoardCommentCountRepository;
 import toy.lsd.board.comment.repository.CommentCrudRepository;
+import toy.lsd.board.common.CursorCodec;
+import toy.lsd.board.common.EventSerializer;
+import toy.lsd.board.common.SubscriberQueue;
 
 @Service
-@RequiredArgsConstructor
 public class CommentService {
 	private final CommentCrudRepository commentCrudRepository;
-	private final Sinks.Many<Comment> commentSink = Sinks.many().multicast().onBackpressureBuffer();
+	private final BoardCommentCountRepository boardCommentCountRepository;
+	private final BoardService boardService;
+	private final TransactionalOperator transactionalOperator;
+	private final CommentGroupCommitter commentGroupCommitter;
+	private final EventSerializer eventSerializer;
+	private final CommentTopicRegistry commentTopicRegistry;
+	private final SubscriberQueue subscriberQueue;
+	private final int historySize;
+	private final int liveBufferSize;
+	private final int pageSize;
+	private final int maxPageSize;
+
+	public CommentService(
+			CommentCrudRepository commentCrudRepository,
+			BoardCommentCountRepository boardCommentCountRepository,
+			BoardService boardService,
+			TransactionalOperator transactionalOperator,
+			CommentGroupCommitter commentGroupCommitter,
+			EventSerializer eventSerializer,
+			CommentTopicRegistry commentTopicRegistry,
+			@Value("${comment.stream.overflow.policy:drop-oldest}") String overflowPolicy,
+			@Value("${comment.stream.overflow.capacity:256}") int overflowCapacity,
+			@Value("${comment.stream.history-size:50}") int historySize,
+			@Value("${comment.stream.live-buffer-size:256}") int liveBufferSize,
+			@Value("${comment.page.size:50}") int pageSize,
+			@Value("${comment.page.max-size:200}") int maxPageSize) {
+		this.commentCrudRepository = commentCrudRepository;
+		this.boardCommentCountRepository = boardCommentCountRepository;
+		this.boardService = boardService;
+		this.transactionalOperator = transactionalOperator;
+		this.commentGroupCommitter = commentGroupCommitter;
+		this.eventSerializer = eventSerializer;
+		this.commentTopicRegistry = commentTopicRegistry;
+		this.subscriberQueue = new SubscriberQueue("comments", SubscriberQueue.OverflowPolicy.parse(overflowPolicy), overflowCapacity);
+		this.historySize = historySize;
+		this.liveBufferSize = liveBufferSize;
+		this.pageSize = pageSize;
+		this.maxPageSize = maxPageSize;
+	}
+
+	/**
+	 * 댓글 목록 키셋 페이지 조회 (최신순, (registered_ymdt, id) 기준)
+	 * @param boardId 게시글 ID
+	 * @param before 불투명 커서 (없으면 첫 페이지, 스트림 cursor 이벤트나 이전 페이지의 nextCursor)
+	 * @param size 페이지 크기 (없으면 comment.page.size, 최대 comment.page.max-size)
+	 * @return 댓글 목록 + 다음 페이지 커서
+	 */
+	public Mono<CommentPage> getComments(Long boardId, String before, Integer size) {
+		int limit = size == null ? pageSize : Math.max(1, Math.min(size, maxPageSize));
+		Flux<Comment> comments;
+		if (before == null) {
+			comments = commentCrudRepository.findRecentByBoardId(boardId, (long) limit);
+		} else {
+			String[] cursor = CursorCodec.decode(before, 2);
+			LocalDateTime registeredDateTime;
+			Long id;
+			try {
+				registeredDateTime = LocalDateTime.parse(cursor[0]);
+				id = Long.valueOf(cursor[1]);
+			} catch (RuntimeException e) {
+				throw new IllegalArgumentException("Invalid cursor: " + before, e);
+			}
+			comments = commentCrudRepository.findByBoardIdBefore(boardId, registeredDateTime, id, (long) limit);
+		}
+
+		return comments.collectList()
+			.map(page -> new CommentPage(page, page.size() < limit ? null : nextCursor(page)));
+	}
+
+	private static String nextCursor(List<Comment> page) {
+		Comment oldest = page.get(page.size() - 1);
+		return CursorCodec.encode(oldest.getRegisteredDateTime(), oldest.getId());
+	}
+
+	/**
+	 * 댓글 실시간 스트림 (최근 댓글 + 새 댓글)
+	 *
+	 * 라이브 토픽을 먼저 구독해 live-buffer-size 만큼 버퍼링해 두고 최근 history-size 건을 보낸 뒤,
+	 * 이미 보낸 댓글은 ID로 걸러 라이브로 넘어간다. (조회하는 동안 작성된 댓글도 유실되지 않음)
+	 * 더 오래된 댓글이 있을 수 있으면 cursor 이벤트로 다음 조회용 커서를 보낸다.
+	 * 새 댓글은 게시글별 토픽으로 해당 게시글 구독자에게만 전달되고,
+	 * JSON 은 작성 시 한 번만 직렬화해 모든 구독자가 공유한다.
+	 */
+	public Flux<CommentEvent> streamComments(Long boardId) {
+		return Flux.defer(() -> {
+			ConnectableFlux<CommentEvent> live = commentTopicRegistry.subscribe(boardId).publish(liveBufferSize);
+			Disposable connection = live.connect();
+
+			Set<Long> sentIds = new HashSet<>();
+			Flux<CommentEvent> history = commentCrudRepository.findRecentByBoardId(boardId, (long) historySize)
+				.collectList()
+				.flatMapMany(comments -> {
+					comments.forEach(comment -> sentIds.add(comment.getId()));
+					return Flux.fromIterable(comments)
+						.map(this::toEvent)
+						.concatWith(Flux.fromIterable(cursorEvent(comments)));
+				});
+
+			return Flux.concat(
+					history,
+					subscriberQueue.attach(live.filter(event -> !sentIds.contains(event.comment().getId()))))
+				.doFinally(signal -> connection.dispose());
+		});
+	}
 
-	public Flux<Comment> getComments(Long boardId) {
-		return commentCrudRepository.findAllByBoardId(boardId, Sort.by(Sort.Direction.DESC, "registeredDateTime"));
+	private List<CommentEvent> cursorEvent(List<Comment> history) {
+		if (history.size() < historySize) {
+			return List.of();  // 더 오래된 댓글 없음
+		}
+		String cursor = nextCursor(history);
+		return List.of(new CommentEvent(null, eventSerializer.toJson(Map.of("before", cursor)), CommentEvent.CURSOR));
 	}
 
-	public Flux<Comment> streamComments(Long boardId) {
-		return Flux.concat(
-			commentCrudRepository.findAllByBoardId(boardId, Sort.by(Sort.Direction.DESC, "registeredDateTime")),
-			commentSink.asFlux().filter(c -> c.getBoardId().equals(boardId))
-		);
+	public SubscriberQueue.Stats streamStats() {
+		return subscriberQueue.stats();
 	}
 
+	public CommentTopicRegistry.Stats topicStats() {
+		return commentTopicRegistry.stats();
+	}
+
+	/**
+	 * 댓글 작성 - 댓글 저장과 게시글 댓글 수 +1 을 한 트랜잭션으로 처리
+	 * 그룹 커밋을 켜면 동시에 들어온 댓글을 모아 한 번에 커밋한다.
+	 * 커밋 후 캐시된 댓글 수를 커밋 시점의 DB 값으로 갱신하고 실시간 구독자에게 발행한다.
+	 */
 	public Mono<Comment> addComment(Comment comment) {
-		return commentCrudRepository.save(comment)
-		.contextWrite(Context.of("entityType", "comment"))
-		.doOnNext(commentSink::tryEmitNext);
+		Mono<CommentGroupCommitter.CommittedComment> saved = commentGroupCommitter.isEnabled()
+			? commentGroupCommitter.submit(comment)
+			: commentCrudRepository.save(comment)
+				.flatMap(savedComment -> boardCommentCountRepository.increment(savedComment.getBoardId())
+					.then(boardCommentCountRepository.findCommentCount(savedComment.getBoardId()))
+					.map(commentCount -> new CommentGroupCommitter.CommittedComment(savedComment, commentCount)))
+				.as(transactionalOperator::transactional)
+				.contextWrite(Context.of("entityType", "comment"));
+
+		return saved
+			.doOnNext(committed -> {
+				Comment savedComment = committed.comment();
+				boardService.onCommentAdded(savedComment.getBoardId(), committed.boardCommentCount());
+				commentTopicRegistry.publish(savedComment.getBoardId(), toEvent(savedComment));
+			})
+			.map(CommentGroupCommitter.CommittedComment::comment);
+	}
+
+	public CommentGroupCommitter.Stats groupCommitStats() {
+		return commentGroupCommitter.stats();
+	}
+
+	private CommentEvent toEvent(Comment comment) {
+		return new CommentEvent(comment, eventSerializer.toJson(comment));
+	}
+
+	/**
+	 * 댓글 페이지
+	 * @param comments 댓글 목록 (최신순)
+	 * @param nextCursor 다음(더 오래된) 페이지 커서, 마지막 페이지면 null
+	 */
+	public record CommentPage(List<Comment> comments, String nextCursor) {}
+
+	/**
+	 * 댓글 스트림 이벤트
+	 * @param comment 댓글 (cursor 이벤트면 null)
+	 * @param json 직렬화된 데이터 (구독자 간 공유)
+	 * @param name SSE event 이름 (댓글은 null - 기본 message 이벤트)
+	 */
+	public record CommentEvent(Comment comment, String json, String name) {
+		public static final String CURSOR = "cursor";
+
+		public CommentEvent(Comment comment, String json) {
+			this(comment, json, null);
+		}
 	}
 }
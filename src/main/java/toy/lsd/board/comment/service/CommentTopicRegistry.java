@@ -0,0 +1,106 @@
+package toy.lsd.board.comment.service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 📮 게시글별 댓글 토픽 레지스트리
+ *
+ * 게시글 ID마다 별도 sink 를 두어 댓글을 해당 게시글 구독자에게만 전달한다.
+ * (전역 sink + 구독자별 filter 는 댓글 1건마다 모든 구독자를 훑는다)
+ * 토픽은 첫 구독자가 올 때 만들고 마지막 구독자가 떠나면 회수한다.
+ */
+@Component
+public class CommentTopicRegistry {
+	private static final Duration EMIT_RETRY_TIMEOUT = Duration.ofMillis(100);
+	private static final int TOP_TOPICS = 20;
+
+	private final Map<Long, Topic> topics = new ConcurrentHashMap<>();
+	private final LongAdder published = new LongAdder();
+	private final LongAdder skipped = new LongAdder();
+
+	/**
+	 * 게시글 토픽 구독 (토픽이 없으면 생성)
+	 * @param boardId 게시글 ID
+	 * @return 해당 게시글 댓글 이벤트 스트림
+	 */
+	public Flux<CommentService.CommentEvent> subscribe(Long boardId) {
+		return Flux.defer(() -> {
+			Topic topic = topics.compute(boardId, (id, existing) -> {
+				Topic target = existing != null ? existing : new Topic();
+				target.subscribers.incrementAndGet();
+				return target;
+			});
+			return topic.sink.asFlux()
+				.doFinally(signal -> release(boardId, topic));
+		});
+	}
+
+	/**
+	 * 댓글 이벤트 발행 (구독자가 없는 게시글이면 버림)
+	 * @param boardId 게시글 ID
+	 * @param event 댓글 이벤트
+	 */
+	public void publish(Long boardId, CommentService.CommentEvent event) {
+		Topic topic = topics.get(boardId);
+		if (topic == null) {
+			skipped.increment();
+			return;
+		}
+		topic.sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_TIMEOUT));
+		published.increment();
+	}
+
+	private void release(Long boardId, Topic topic) {
+		topics.computeIfPresent(boardId, (id, current) -> {
+			if (current != topic) {
+				return current;
+			}
+			return topic.subscribers.decrementAndGet() == 0 ? null : topic;
+		});
+	}
+
+	public Stats stats() {
+		List<TopicStats> topTopics = topics.entrySet().stream()
+			.map(entry -> new TopicStats(entry.getKey(), entry.getValue().subscribers.get()))
+			.sorted(Comparator.comparingInt(TopicStats::subscribers).reversed())
+			.limit(TOP_TOPICS)
+			.toList();
+		long subscribers = topics.values().stream()
+			.mapToLong(topic -> topic.subscribers.get())
+			.sum();
+		return new Stats(topics.size(), subscribers, published.sum(), skipped.sum(), topTopics);
+	}
+
+	private static final class Topic {
+		private final Sinks.Many<CommentService.CommentEvent> sink = Sinks.many().multicast().directBestEffort();
+		private final AtomicInteger subscribers = new AtomicInteger();
+	}
+
+	/**
+	 * 📈 토픽별 구독자 수
+	 * @param boardId 게시글 ID
+	 * @param subscribers 구독자 수
+	 */
+	public record TopicStats(Long boardId, int subscribers) {}
+
+	/**
+	 * 📈 댓글 토픽 지표
+	 * @param activeTopics 구독자가 있는 토픽 수
+	 * @param subscribers 전체 구독자 수
+	 * @param published 구독자가 있는 토픽으로 발행된 댓글 수
+	 * @param skipped 구독자가 없어 버려진 댓글 수
+	 * @param topTopics 구독자가 많은 토픽 (상위 20개)
+	 */
+	public record Stats(int activeTopics, long subscribers, long published, long skipped, List<TopicStats> topTopics) {}
+}
@@ -0,0 +1,60 @@
+package toy.lsd.board.common;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🌐 요청한 클라이언트 주소 추출
+ *
+ * X-Forwarded-For 는 클라이언트가 마음대로 보낼 수 있으므로, 직접 연결한 상대가
+ * 설정된 프록시(client-address.trusted-proxies)일 때만 읽는다.
+ * 이때도 오른쪽(가까운 쪽)부터 신뢰하는 프록시를 건너뛰고 처음 나오는 주소를 쓴다.
+ * 신뢰하는 프록시가 없으면 항상 연결 상대 주소를 쓴다.
+ */
+@Component
+public class ClientAddress {
+	private static final String FORWARDED_FOR = "X-Forwarded-For";
+	private static final String UNKNOWN = "unknown";
+
+	private final Set<String> trustedProxies;
+
+	public ClientAddress(@Value("${client-address.trusted-proxies:}") List<String> trustedProxies) {
+		this.trustedProxies = Set.copyOf(trustedProxies.stream()
+			.map(String::trim)
+			.filter(proxy -> !proxy.isEmpty())
+			.toList());
+	}
+
+	public String resolve(ServerHttpRequest request) {
+		String remoteAddress = remoteAddress(request);
+		if (!trustedProxies.contains(remoteAddress)) {
+			return remoteAddress;
+		}
+
+		String forwardedFor = request.getHeaders().getFirst(FORWARDED_FOR);
+		if (forwardedFor == null || forwardedFor.isBlank()) {
+			return remoteAddress;
+		}
+		String[] hops = forwardedFor.split(",");
+		for (int i = hops.length - 1; i >= 0; i--) {
+			String hop = hops[i].trim();
+			if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+				return hop;
+			}
+		}
+		return remoteAddress;
+	}
+
+	private static String remoteAddress(ServerHttpRequest request) {
+		InetSocketAddress remoteAddress = request.getRemoteAddress();
+		if (remoteAddress == null || remoteAddress.getAddress() == null) {
+			return UNKNOWN;
+		}
+		return remoteAddress.getAddress().getHostAddress();
+	}
+}
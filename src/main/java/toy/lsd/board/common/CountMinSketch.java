@@ -0,0 +1,80 @@
+package toy.lsd.board.common;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 🧮 Count-Min Sketch 빈도 추정 스케치
+ *
+ * depth x width 카운터 행렬에 키별로 행마다 한 칸씩 더하고,
+ * 추정 시 행들 중 최솟값을 돌려준다. (과대 추정만 있고 과소 추정은 없음)
+ * 메모리는 트래픽과 무관하게 depth * width * 4 bytes 로 고정된다.
+ */
+public class CountMinSketch {
+	private static final long[] SEEDS = {
+		0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+		0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x85EBCA77C2B2AE63L, 0x27D4EB2F165667C5L
+	};
+
+	private final int depth;
+	private final int widthMask;
+	private final AtomicIntegerArray counters;
+
+	/**
+	 * @param depth 해시 행 수 (1 ~ 8)
+	 * @param width 행당 카운터 수 (2의 거듭제곱)
+	 */
+	public CountMinSketch(int depth, int width) {
+		if (depth < 1 || depth > SEEDS.length) {
+			throw new IllegalArgumentException("depth must be between 1 and " + SEEDS.length + ": " + depth);
+		}
+		if (width < 1 || Integer.bitCount(width) != 1) {
+			throw new IllegalArgumentException("width must be a power of two: " + width);
+		}
+		this.depth = depth;
+		this.widthMask = width - 1;
+		this.counters = new AtomicIntegerArray(depth * width);
+	}
+
+	/**
+	 * 키 빈도 1 증가 후 추정값 반환
+	 * @param key 키
+	 * @return 증가 후 추정 빈도
+	 */
+	public int addAndEstimate(long key) {
+		int estimate = Integer.MAX_VALUE;
+		for (int row = 0; row < depth; row++) {
+			estimate = Math.min(estimate, counters.incrementAndGet(index(row, key)));
+		}
+		return estimate;
+	}
+
+	/**
+	 * 키 빈도 추정
+	 * @param key 키
+	 * @return 추정 빈도
+	 */
+	public int estimate(long key) {
+		int estimate = Integer.MAX_VALUE;
+		for (int row = 0; row < depth; row++) {
+			estimate = Math.min(estimate, counters.get(index(row, key)));
+		}
+		return estimate;
+	}
+
+	public void clear() {
+		for (int i = 0; i < counters.length(); i++) {
+			counters.set(i, 0);
+		}
+	}
+
+	private int index(int row, long key) {
+		// murmur3 fmix64 로 행마다 다른 시드의 해시를 만든다
+		long hash = key ^ SEEDS[row];
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return row * (widthMask + 1) + (int) (hash & widthMask);
+	}
+}
@@ -0,0 +1,67 @@
+package toy.lsd.board.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 🧭 키셋 페이지네이션용 불투명(opaque) 커서 인코더
+ *
+ * 커서 값(예: 마지막 게시글 ID)을 Base64 URL-safe 문자열로 감싸
+ * 클라이언트가 내부 정렬 키에 의존하지 않도록 한다.
+ */
+public final class CursorCodec {
+	private static final String DELIMITER = "|";
+
+	private CursorCodec() {}
+
+	/**
+	 * 커서 생성
+	 * @param parts 정렬 키 값들
+	 * @return 불투명 커서 문자열
+	 */
+	public static String encode(Object... parts) {
+		String raw = Arrays.stream(parts)
+			.map(String::valueOf)
+			.collect(Collectors.joining(DELIMITER));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 해석
+	 * @param cursor 불투명 커서 문자열
+	 * @param expectedParts 기대하는 정렬 키 개수
+	 * @return 정렬 키 값들
+	 * @throws IllegalArgumentException 형식이 올바르지 않은 경우 (400 응답)
+	 */
+	public static String[] decode(String cursor, int expectedParts) {
+		String raw;
+		try {
+			raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+		}
+
+		String[] parts = raw.split(Pattern.quote(DELIMITER), -1);
+		if (parts.length != expectedParts) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor);
+		}
+		return parts;
+	}
+
+	/**
+	 * 단일 ID 커서 해석
+	 * @param cursor 불투명 커서 문자열
+	 * @return ID
+	 * @throws IllegalArgumentException 형식이 올바르지 않은 경우 (400 응답)
+	 */
+	public static Long decodeId(String cursor) {
+		try {
+			return Long.valueOf(decode(cursor, 1)[0]);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+		}
+	}
+}
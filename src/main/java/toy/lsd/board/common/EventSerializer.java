@@ -0,0 +1,29 @@
+package toy.lsd.board.common;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 📦 실시간 이벤트 JSON 직렬화 (발행 시 1회)
+ *
+ * SSE 코덱이 구독자마다 같은 객체를 다시 직렬화하지 않도록 발행 시점에 한 번만 JSON 문자열로 만들고,
+ * 모든 구독자가 그 문자열을 ServerSentEvent&lt;String&gt; 데이터로 그대로 공유한다.
+ * 애플리케이션 ObjectMapper 를 그대로 써서 코덱이 직렬화할 때와 같은 형식을 유지한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventSerializer {
+	private final ObjectMapper objectMapper;
+
+	public String toJson(Object event) {
+		try {
+			return objectMapper.writeValueAsString(event);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize event: " + event.getClass().getSimpleName(), e);
+		}
+	}
+}
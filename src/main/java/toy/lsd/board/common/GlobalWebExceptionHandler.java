@@ -9,6 +9,7 @@ import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.ErrorResponse;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -35,6 +36,11 @@ public class GlobalWebExceptionHandler implements ErrorWebExceptionHandler {
 		if (ex instanceof IllegalArgumentException) {
 			errorResponse = ErrorResponse.builder(ex, HttpStatus.BAD_REQUEST, ex.getMessage()).build();
 			exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+		} else if (ex instanceof ResponseStatusException statusException) {
+			// 과부하 거절(503) 등 상태 코드를 직접 지정한 예외
+			errorResponse = ErrorResponse.builder(ex, statusException.getStatusCode(), statusException.getReason()).build();
+			exchange.getResponse().setStatusCode(statusException.getStatusCode());
+			exchange.getResponse().getHeaders().addAll(statusException.getHeaders());
 		} else {
 			errorResponse = ErrorResponse.builder(ex, HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage()).build();
 			exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -0,0 +1,57 @@
+package toy.lsd.board.common;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 🏆 빈도 상위 후보(heavy hitters) 유지용 고정 크기 min-heap
+ *
+ * 스케치 추정값이 heap 최솟값보다 큰 키만 후보로 남겨
+ * 키 종류가 아무리 많아도 capacity 개만 기억한다.
+ */
+public class HeavyHitters {
+	private final int capacity;
+	private final Map<Long, Candidate> candidates = new HashMap<>();
+	private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingLong(Candidate::count));
+
+	public HeavyHitters(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * 키의 최신 추정 빈도를 반영
+	 * @param key 키
+	 * @param count 추정 빈도
+	 */
+	public synchronized void offer(long key, long count) {
+		Candidate existing = candidates.get(key);
+		if (existing != null) {
+			heap.remove(existing);
+		} else if (candidates.size() >= capacity) {
+			Candidate min = heap.peek();
+			if (min == null || min.count() >= count) {
+				return;
+			}
+			heap.poll();
+			candidates.remove(min.key());
+		}
+
+		Candidate updated = new Candidate(key, count);
+		candidates.put(key, updated);
+		heap.add(updated);
+	}
+
+	public synchronized List<Candidate> snapshot() {
+		return List.copyOf(candidates.values());
+	}
+
+	public synchronized void clear() {
+		candidates.clear();
+		heap.clear();
+	}
+
+	public record Candidate(long key, long count) {}
+}
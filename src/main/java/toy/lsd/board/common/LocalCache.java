@@ -0,0 +1,187 @@
+package toy.lsd.board.common;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 🗃️ 크기 제한(LRU) + TTL 로컬 캐시
+ *
+ * LinkedHashMap(access-order)로 가장 오래 사용되지 않은 항목부터 밀어내고,
+ * 만료된 항목은 조회 시점에 제거한다. 조회/저장은 짧은 임계 구역으로 보호한다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LocalCache<K, V> {
+	private final String name;
+	private final int maximumSize;
+	private final Duration defaultTtl;
+	private final Map<K, Entry<V>> entries;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+
+	public LocalCache(String name, int maximumSize, Duration defaultTtl) {
+		this.name = name;
+		this.maximumSize = maximumSize;
+		this.defaultTtl = defaultTtl;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				if (size() > LocalCache.this.maximumSize) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * 캐시 조회 (만료된 항목은 제거 후 miss 처리)
+	 * @param key 키
+	 * @return 캐시된 값, 없으면 null
+	 */
+	public V getIfPresent(K key) {
+		synchronized (entries) {
+			Entry<V> entry = entries.get(key);
+			if (entry == null) {
+				misses.increment();
+				return null;
+			}
+			if (entry.isExpired(System.nanoTime())) {
+				entries.remove(key);
+				expirations.increment();
+				misses.increment();
+				return null;
+			}
+			hits.increment();
+			return entry.value();
+		}
+	}
+
+	/**
+	 * 캐시 조회, 없거나 만료되었으면 loader 결과를 기본 TTL로 저장 후 반환
+	 * (loader 는 임계 구역 안에서 호출되므로 가벼운 작업이어야 한다)
+	 * @param key 키
+	 * @param loader 키 → 새 값
+	 * @return 캐시된 값 또는 새로 만든 값
+	 */
+	public V computeIfAbsent(K key, Function<K, V> loader) {
+		long now = System.nanoTime();
+		synchronized (entries) {
+			Entry<V> entry = entries.get(key);
+			if (entry != null && !entry.isExpired(now)) {
+				hits.increment();
+				return entry.value();
+			}
+			if (entry != null) {
+				expirations.increment();
+			}
+			misses.increment();
+			V value = loader.apply(key);
+			entries.put(key, new Entry<>(value, now + defaultTtl.toNanos()));
+			return value;
+		}
+	}
+
+	public void put(K key, V value) {
+		put(key, value, defaultTtl);
+	}
+
+	/**
+	 * 항목별 TTL 지정 저장
+	 * @param key 키
+	 * @param value 값
+	 * @param ttl 만료 시간
+	 */
+	public void put(K key, V value, Duration ttl) {
+		if (ttl.isNegative() || ttl.isZero()) {
+			return;
+		}
+		long expiresAtNanos = System.nanoTime() + ttl.toNanos();
+		synchronized (entries) {
+			entries.put(key, new Entry<>(value, expiresAtNanos));
+		}
+	}
+
+	/**
+	 * 캐시에 있는 항목만 값 갱신 (만료 시각 유지, 적중률 집계 제외)
+	 * @param key 키
+	 * @param updater 기존 값 → 새 값
+	 */
+	public void updateIfPresent(K key, UnaryOperator<V> updater) {
+		synchronized (entries) {
+			Entry<V> entry = entries.get(key);
+			if (entry != null && !entry.isExpired(System.nanoTime())) {
+				entries.put(key, new Entry<>(updater.apply(entry.value()), entry.expiresAtNanos()));
+			}
+		}
+	}
+
+	public void invalidate(K key) {
+		synchronized (entries) {
+			entries.remove(key);
+		}
+	}
+
+	public void invalidateAll() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	public Stats stats() {
+		int size;
+		synchronized (entries) {
+			size = entries.size();
+		}
+		long hitCount = hits.sum();
+		long missCount = misses.sum();
+		long requests = hitCount + missCount;
+		return new Stats(
+			name,
+			size,
+			maximumSize,
+			hitCount,
+			missCount,
+			evictions.sum(),
+			expirations.sum(),
+			requests == 0 ? 0 : (double) hitCount / requests
+		);
+	}
+
+	private record Entry<V>(V value, long expiresAtNanos) {
+		boolean isExpired(long nowNanos) {
+			return nowNanos - expiresAtNanos >= 0;
+		}
+	}
+
+	/**
+	 * 📈 캐시 지표
+	 * @param name 캐시 이름
+	 * @param size 현재 항목 수
+	 * @param maximumSize 최대 항목 수
+	 * @param hits 적중 횟수
+	 * @param misses 미적중 횟수
+	 * @param evictions 크기 초과로 밀려난 항목 수
+	 * @param expirations TTL 만료로 제거된 항목 수
+	 * @param hitRate 적중률
+	 */
+	public record Stats(
+		String name,
+		int size,
+		int maximumSize,
+		long hits,
+		long misses,
+		long evictions,
+		long expirations,
+		double hitRate
+	) {}
+}
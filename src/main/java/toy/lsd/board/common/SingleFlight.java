@@ -0,0 +1,67 @@
+package toy.lsd.board.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * ✈️ 같은 키에 대한 동시 로딩 요청 합치기 (single-flight)
+ *
+ * 진행 중인 로딩이 있으면 새로 구독하지 않고 cache()된 같은 Mono를 공유하며,
+ * 로딩이 끝나면(성공/실패/empty) 키를 제거해 다음 요청은 새로 로딩한다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class SingleFlight<K, V> {
+	private final String name;
+	private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+	private final LongAdder loads = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+
+	public SingleFlight(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * 키별로 한 번만 로딩하고 동시 호출자는 결과를 공유
+	 * @param key 키
+	 * @param loader 실제 로딩 함수
+	 * @return 공유되는 로딩 결과
+	 */
+	public Mono<V> execute(K key, Function<K, Mono<V>> loader) {
+		return Mono.defer(() -> {
+			boolean[] created = {false};
+			Mono<V> shared = inFlight.computeIfAbsent(key, k -> {
+				created[0] = true;
+				return loader.apply(k)
+					.doFinally(signal -> inFlight.remove(k))
+					.cache();
+			});
+
+			if (created[0]) {
+				loads.increment();
+			} else {
+				coalesced.increment();
+			}
+			return shared;
+		});
+	}
+
+	public Stats stats() {
+		return new Stats(name, inFlight.size(), loads.sum(), coalesced.sum());
+	}
+
+	/**
+	 * 📈 single-flight 지표
+	 * @param name 이름
+	 * @param inFlight 현재 진행 중인 로딩 수
+	 * @param loads 실제 로딩 횟수
+	 * @param coalesced 진행 중인 로딩에 합류한 요청 수
+	 */
+	public record Stats(String name, int inFlight, long loads, long coalesced) {}
+}
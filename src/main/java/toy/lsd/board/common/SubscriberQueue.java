@@ -0,0 +1,138 @@
+package toy.lsd.board.common;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+
+/**
+ * 🚰 구독자별 전송 큐 (느린 구독자 격리)
+ *
+ * 실시간 스트림 구독자마다 크기가 제한된 큐를 두고, 구독자가 못 따라와 큐가 차면
+ * 정책에 따라 오래된 이벤트를 버리거나(DROP_OLDEST), 최신 1건만 남기거나(LATEST_ONLY),
+ * 연결을 끊는다(DISCONNECT). 한 구독자가 밀려도 다른 구독자 전송이나 메모리에 영향을 주지 않는다.
+ */
+public class SubscriberQueue {
+	private final String name;
+	private final OverflowPolicy policy;
+	private final int capacity;
+
+	private final AtomicLong subscribers = new AtomicLong();
+	private final AtomicLong queuedEvents = new AtomicLong();
+	private final AtomicLong maxQueueDepth = new AtomicLong();
+	private final LongAdder deliveredEvents = new LongAdder();
+	private final LongAdder droppedEvents = new LongAdder();
+	private final LongAdder disconnects = new LongAdder();
+
+	public SubscriberQueue(String name, OverflowPolicy policy, int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be positive: " + capacity);
+		}
+		this.name = name;
+		this.policy = policy;
+		this.capacity = policy == OverflowPolicy.LATEST_ONLY ? 1 : capacity;
+	}
+
+	/**
+	 * 구독자 한 명의 라이브 스트림에 전송 큐 적용
+	 * @param source 라이브 이벤트 스트림 (구독자별로 구독됨)
+	 * @return 큐를 거친 스트림
+	 */
+	public <T> Flux<T> attach(Flux<T> source) {
+		return Flux.defer(() -> {
+			AtomicLong depth = new AtomicLong();
+			BufferOverflowStrategy strategy = policy == OverflowPolicy.DISCONNECT
+				? BufferOverflowStrategy.ERROR
+				: BufferOverflowStrategy.DROP_OLDEST;
+
+			return source
+				.doOnNext(event -> enqueued(depth))
+				.onBackpressureBuffer(capacity, dropped -> dequeued(depth, droppedEvents), strategy)
+				.doOnNext(event -> dequeued(depth, deliveredEvents))
+				.onErrorResume(Exceptions::isOverflow, error -> {
+					// 큐에 남은 이벤트는 버리고 정상 종료 → 클라이언트가 재연결(Last-Event-ID)로 따라잡는다
+					disconnects.increment();
+					droppedEvents.add(depth.get());
+					return Flux.empty();
+				})
+				.doOnSubscribe(subscription -> subscribers.incrementAndGet())
+				.doFinally(signal -> {
+					subscribers.decrementAndGet();
+					queuedEvents.addAndGet(-depth.getAndSet(0));
+				});
+		});
+	}
+
+	private void enqueued(AtomicLong depth) {
+		long current = depth.incrementAndGet();
+		queuedEvents.incrementAndGet();
+		maxQueueDepth.accumulateAndGet(current, Math::max);
+	}
+
+	private void dequeued(AtomicLong depth, LongAdder counter) {
+		depth.decrementAndGet();
+		queuedEvents.decrementAndGet();
+		counter.increment();
+	}
+
+	public Stats stats() {
+		return new Stats(
+			name,
+			policy,
+			capacity,
+			subscribers.get(),
+			queuedEvents.get(),
+			maxQueueDepth.get(),
+			deliveredEvents.sum(),
+			droppedEvents.sum(),
+			disconnects.sum()
+		);
+	}
+
+	/**
+	 * 큐가 찼을 때의 처리 정책
+	 */
+	public enum OverflowPolicy {
+		DROP_OLDEST,
+		LATEST_ONLY,
+		DISCONNECT;
+
+		/**
+		 * 설정값 변환 (drop-oldest, latest-only, disconnect)
+		 */
+		public static OverflowPolicy parse(String value) {
+			try {
+				return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Unknown overflow policy: " + value, e);
+			}
+		}
+	}
+
+	/**
+	 * 📈 구독자 큐 지표
+	 * @param name 스트림 이름
+	 * @param policy 넘침 정책
+	 * @param capacity 구독자별 큐 크기
+	 * @param subscribers 현재 구독자 수
+	 * @param queuedEvents 전체 구독자 큐에 쌓인 이벤트 수
+	 * @param maxQueueDepth 구독자 한 명의 최대 큐 깊이
+	 * @param deliveredEvents 전달된 이벤트 수
+	 * @param droppedEvents 넘쳐서 버려진 이벤트 수
+	 * @param disconnects 넘쳐서 끊긴 연결 수
+	 */
+	public record Stats(
+		String name,
+		OverflowPolicy policy,
+		int capacity,
+		long subscribers,
+		long queuedEvents,
+		long maxQueueDepth,
+		long deliveredEvents,
+		long droppedEvents,
+		long disconnects
+	) {}
+}
@@ -0,0 +1,168 @@
+package toy.lsd.board.common;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 🪣 키별 토큰 버킷 제한기 (GCRA)
+ *
+ * 버킷 하나는 "다음 토큰이 정상적으로 도착할 시각"(TAT) 하나만 AtomicLong 으로 들고,
+ * 토큰 차감은 CAS 로 처리해 잠금이 없다. 최대 capacity 개를 연달아 쓸 수 있고
+ * 이후에는 refillInterval 마다 1개씩 채워진다.
+ * 버킷 맵은 여러 조각(stripe)으로 나눈 LRU 라 활성 키 수만큼만 메모리를 쓰며,
+ * 조각별 잠금은 버킷을 찾는 동안만 잡는다.
+ * 조각이 가득 차면 오래 안 쓴 버킷 중 다시 가득 찬(제한 중이 아닌) 버킷만 밀어낸다.
+ * 밀어낼 버킷이 없으면 새 키는 추적하지 않고 그냥 허용한다.
+ * (제한 중인 버킷은 초기화되지 않고, 무작위 키를 뿌려 조각을 채워도 처음 오는 정상 키가 막히지 않음 -
+ *  이런 요청은 다른 제한기(예: 클라이언트 주소별)가 막아야 한다)
+ */
+public class TokenBucketLimiter {
+	private static final int STRIPES = 16;
+	private static final int EVICTION_SCAN = 16;
+
+	private final String name;
+	private final int capacity;
+	private final long refillIntervalNanos;
+	private final long burstNanos;
+	private final int maxKeysPerStripe;
+	private final Map<String, AtomicLong>[] stripes;
+	private final LongSupplier nanoClock;
+
+	private final LongAdder allowed = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder untracked = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public TokenBucketLimiter(String name, int capacity, Duration refillInterval, int maxKeys) {
+		this(name, capacity, refillInterval, maxKeys, System::nanoTime);
+	}
+
+	@SuppressWarnings("unchecked")
+	TokenBucketLimiter(String name, int capacity, Duration refillInterval, int maxKeys, LongSupplier nanoClock) {
+		if (capacity < 1 || refillInterval.isNegative() || refillInterval.isZero()) {
+			throw new IllegalArgumentException("capacity and refill interval must be positive: " + capacity + ", " + refillInterval);
+		}
+		this.name = name;
+		this.capacity = capacity;
+		this.refillIntervalNanos = refillInterval.toNanos();
+		this.burstNanos = refillIntervalNanos * capacity;
+		this.maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+		this.nanoClock = nanoClock;
+		this.stripes = new Map[STRIPES];
+		for (int i = 0; i < STRIPES; i++) {
+			stripes[i] = new LinkedHashMap<>(16, 0.75f, true);
+		}
+	}
+
+	/**
+	 * 토큰 1개 사용 시도
+	 * @param key 제한 대상 키 (로그인 ID, 클라이언트 주소 등)
+	 * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간(ns)
+	 */
+	public long tryAcquire(String key) {
+		long now = nanoClock.getAsLong();
+		AtomicLong tat = bucket(key, now);
+		if (tat == null) {
+			// 추적 중인 키가 모두 제한 중이라 새 버킷을 만들 수 없음 → 추적 없이 허용
+			allowed.increment();
+			untracked.increment();
+			return 0;
+		}
+		while (true) {
+			long current = tat.get();
+			long next = Math.max(current, now) + refillIntervalNanos;
+			long overflow = next - now - burstNanos;
+			if (overflow > 0) {
+				rejected.increment();
+				return overflow;
+			}
+			if (tat.compareAndSet(current, next)) {
+				allowed.increment();
+				return 0;
+			}
+		}
+	}
+
+	private AtomicLong bucket(String key, long now) {
+		Map<String, AtomicLong> stripe = stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+		synchronized (stripe) {
+			AtomicLong bucket = stripe.get(key);
+			if (bucket != null) {
+				return bucket;
+			}
+			if (stripe.size() >= maxKeysPerStripe && !evictRefilled(stripe, now)) {
+				return null;
+			}
+			// 새 버킷은 가득 찬 상태 (TAT = 지금보다 이전)
+			bucket = new AtomicLong(now - burstNanos);
+			stripe.put(key, bucket);
+			return bucket;
+		}
+	}
+
+	/**
+	 * 오래 안 쓴 순으로 앞쪽 몇 개를 보고, 다시 가득 찬 버킷(TAT <= 지금)을 하나 밀어냄
+	 * (가득 찬 버킷은 지워도 새로 만든 버킷과 같으므로 제한이 풀리지 않는다)
+	 * @return 밀어냈으면 true
+	 */
+	private boolean evictRefilled(Map<String, AtomicLong> stripe, long now) {
+		Iterator<AtomicLong> buckets = stripe.values().iterator();
+		for (int scanned = 0; scanned < EVICTION_SCAN && buckets.hasNext(); scanned++) {
+			if (buckets.next().get() - now <= 0) {
+				buckets.remove();
+				evictions.increment();
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public Stats stats() {
+		long activeBuckets = 0;
+		for (Map<String, AtomicLong> stripe : stripes) {
+			synchronized (stripe) {
+				activeBuckets += stripe.size();
+			}
+		}
+		return new Stats(
+			name,
+			capacity,
+			Duration.ofNanos(refillIntervalNanos).toMillis(),
+			activeBuckets,
+			(long) maxKeysPerStripe * STRIPES,
+			allowed.sum(),
+			rejected.sum(),
+			untracked.sum(),
+			evictions.sum()
+		);
+	}
+
+	/**
+	 * 📈 토큰 버킷 지표
+	 * @param name 제한기 이름
+	 * @param capacity 버킷 크기 (연달아 허용되는 요청 수)
+	 * @param refillIntervalMillis 토큰 1개가 채워지는 간격
+	 * @param activeBuckets 현재 추적 중인 키 수
+	 * @param maxBuckets 최대 추적 키 수 (넘으면 LRU 로 밀려남)
+	 * @param allowed 허용된 요청 수
+	 * @param rejected 거절된 요청 수
+	 * @param untracked 그 중 추적 키가 모두 제한 중이라 버킷 없이 허용된 새 키 요청 수
+	 * @param evictions 밀려난 버킷 수
+	 */
+	public record Stats(
+		String name,
+		int capacity,
+		long refillIntervalMillis,
+		long activeBuckets,
+		long maxBuckets,
+		long allowed,
+		long rejected,
+		long untracked,
+		long evictions
+	) {}
+}
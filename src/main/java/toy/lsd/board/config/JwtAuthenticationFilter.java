@@ -1,5 +1,7 @@
 package toy.lsd.board.config;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
@@ -8,9 +10,13 @@ import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
+import toy.lsd.board.common.LocalCache;
 import toy.lsd.board.member.entity.Member;
 import toy.lsd.board.member.service.MemberService;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * 🛡️ JWT 토큰을 검증하고 Member 객체를 인증 컨텍스트에 설정하는 필터
  * 
@@ -19,33 +25,56 @@ import toy.lsd.board.member.service.MemberService;
  * 2. username으로 Member 객체 조회
  * 3. Member 객체를 principal로 하는 Authentication 생성
  * 4. SecurityContext에 저장
+ *
+ * principal 구성 방식 (jwt.principal.mode)
+ * - claims: DB 조회 없이 토큰 클레임(sub, name, roles)으로 Member 구성
+ * - database: 요청마다 회원 조회 (member-cache-ttl 을 주면 그 시간 동안 캐시)
  */
 @Component
 public class JwtAuthenticationFilter implements WebFilter {
 
     private final JwtUtil jwtUtil;
     private final MemberService memberService;  // Member 조회용 추가
+    private final boolean statelessPrincipal;
+    private final LocalCache<String, Member> memberCache;  // database 모드 + TTL 지정 시에만 사용
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, MemberService memberService) {
+    public JwtAuthenticationFilter(
+            JwtUtil jwtUtil,
+            MemberService memberService,
+            @Value("${jwt.principal.mode:database}") String principalMode,
+            @Value("${jwt.principal.member-cache-ttl:0s}") Duration memberCacheTtl,
+            @Value("${jwt.principal.member-cache-size:10000}") int memberCacheSize) {
         this.jwtUtil = jwtUtil;
         this.memberService = memberService;
+        this.statelessPrincipal = switch (principalMode) {
+            case "claims" -> true;
+            case "database" -> false;
+            default -> throw new IllegalArgumentException("Unknown jwt.principal.mode: " + principalMode);
+        };
+        this.memberCache = !statelessPrincipal && !memberCacheTtl.isZero()
+            ? new LocalCache<>("jwt-member", memberCacheSize, memberCacheTtl)
+            : null;
     }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
         String token = extractTokenFromRequest(exchange);
         
-        // 🎫 토큰이 있고 유효한 경우에만 인증 정보 설정
-        if (token != null && jwtUtil.validateToken(token)) {
-            return authenticateWithToken(token)
-                .flatMap(auth -> chain.filter(exchange)
-                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth))
-                )
+        // 🎫 토큰이 있고 유효한 경우에만 인증 정보 설정 (검증 + 디코딩은 요청당 한 번)
+        DecodedJWT jwt = token != null ? jwtUtil.verify(token) : null;
+        if (jwt != null) {
+            return authenticateWithToken(jwt)
                 .onErrorResume(error -> {
                     // Member 조회 실패 시 인증 없이 진행
                     System.err.println("Member 조회 실패: " + error.getMessage());
-                    return chain.filter(exchange);
-                });
+                    return Mono.empty();
+                })
+                .map(auth -> chain.filter(exchange)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth))
+                )
+                // 회원이 없거나 조회 실패면 인증 없이 진행
+                .defaultIfEmpty(Mono.defer(() -> chain.filter(exchange)))
+                .flatMap(filtered -> filtered);
         }
         
         // 토큰이 없거나 유효하지 않으면 그냥 다음 필터로
@@ -67,17 +96,12 @@ public class JwtAuthenticationFilter implements WebFilter {
     }
 
     /**
-     * 🔐 JWT 토큰으로부터 Member 객체를 조회하여 인증 객체 생성
+     * 🔐 JWT 토큰으로부터 Member 객체를 구성하여 인증 객체 생성
      * 
      * 핵심: Member 객체를 principal로 설정하여 @AuthenticationPrincipal이 작동하도록 함
      */
-    private Mono<Authentication> authenticateWithToken(String token) {
-        String username = jwtUtil.getUsernameFromToken(token);
-        
-        // 1. JWT에서 username 추출
-        // 2. username으로 Member 객체 조회
-        // 3. Member 객체를 principal로 하는 Authentication 생성
-        return memberService.findMemberById(username)
+    private Mono<Authentication> authenticateWithToken(DecodedJWT jwt) {
+        return resolveMember(jwt)
             .map(member -> {
                 System.out.println("🎯 JWT 인증 성공: " + member.getName() + " (" + member.getId() + ")");
                 
@@ -89,4 +113,34 @@ public class JwtAuthenticationFilter implements WebFilter {
                 );
             });
     }
-} 
\ No newline at end of file
+
+    private Mono<Member> resolveMember(DecodedJWT jwt) {
+        String username = jwt.getSubject();
+        if (statelessPrincipal) {
+            return Mono.justOrEmpty(memberFromClaims(jwt));
+        }
+        if (memberCache == null) {
+            return memberService.findMemberById(username);
+        }
+
+        Member cached = memberCache.getIfPresent(username);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return memberService.findMemberById(username)
+            .doOnNext(member -> memberCache.put(username, member));
+    }
+
+    /**
+     * 🎫 토큰 클레임만으로 Member 구성 (비밀번호 없음)
+     * name 클레임이 없는 이전 토큰은 로그인 ID를 이름으로 사용한다.
+     */
+    private static Member memberFromClaims(DecodedJWT jwt) {
+        List<String> roles = jwt.getClaim(JwtUtil.ROLES_CLAIM).asList(String.class);
+        if (jwt.getSubject() == null || roles == null || roles.isEmpty()) {
+            return null;
+        }
+        String name = jwt.getClaim(JwtUtil.NAME_CLAIM).asString();
+        return new Member(jwt.getSubject(), name != null ? name : jwt.getSubject(), null, String.join(",", roles));
+    }
+}
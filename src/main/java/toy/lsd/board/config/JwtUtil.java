@@ -5,8 +5,16 @@ import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import toy.lsd.board.common.LocalCache;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 
@@ -20,6 +28,9 @@ import java.util.List;
  * - Stateless: 서버에 세션을 저장하지 않아도 됨
  * - 확장성: 여러 서버에서 동일한 토큰으로 인증 가능
  * - 모바일 앱에서 사용하기 좋음
+ *
+ * 검증기는 불변이라 하나를 공유하고, 검증된 토큰은 SHA-256 다이제스트를 키로
+ * 토큰 만료 시각(exp)까지 캐시해 같은 토큰의 반복 요청은 서명 검증을 건너뛴다.
  */
 @Component
 public class JwtUtil {
@@ -30,50 +41,85 @@ public class JwtUtil {
     // ⏰ 토큰 유효시간 (1시간)
     private static final long EXPIRATION_TIME = 1000 * 60 * 60; // 1 hour
     
+    private static final String ISSUER = "toy-board-app";
+    public static final String NAME_CLAIM = "name";
+    public static final String ROLES_CLAIM = "roles";
+    
     private final Algorithm algorithm = Algorithm.HMAC256(SECRET);
     
+    // 🔐 검증기는 불변 + thread-safe 라 하나만 만들어 공유
+    private final JWTVerifier verifier = JWT.require(algorithm)
+        .withIssuer(ISSUER)
+        .build();
+    
+    // 🗃️ 검증된 토큰 캐시 (토큰 다이제스트 → 디코딩 결과, exp 까지 유효)
+    private final LocalCache<String, DecodedJWT> verifiedTokens;
+    
+    public JwtUtil(@Value("${jwt.cache.maximum-size:10000}") int cacheMaximumSize) {
+        this.verifiedTokens = new LocalCache<>("verified-jwt", cacheMaximumSize, Duration.ofMillis(EXPIRATION_TIME));
+    }
+    
     /**
      * 🎫 JWT 토큰 생성 메소드
      * @param username 사용자명
+     * @param name 사용자 표시 이름 (stateless principal 용)
      * @param roles 사용자 권한 목록
      * @return JWT 토큰 문자열
      */
-    public String generateToken(String username, List<String> roles) {
+    public String generateToken(String username, String name, List<String> roles) {
         return JWT.create()
             .withSubject(username)                                    // 토큰 주체 (사용자명)
-            .withClaim("roles", roles)                               // 사용자 권한
+            .withClaim(NAME_CLAIM, name)                             // 사용자 표시 이름
+            .withClaim(ROLES_CLAIM, roles)                           // 사용자 권한
             .withIssuedAt(new Date())                                // 발급 시간
             .withExpiresAt(new Date(System.currentTimeMillis() + EXPIRATION_TIME)) // 만료 시간
-            .withIssuer("toy-board-app")                             // 토큰 발급자
+            .withIssuer(ISSUER)                                      // 토큰 발급자
             .sign(algorithm);
     }
     
     /**
-     * 🔍 JWT 토큰에서 사용자명 추출
+     * ✅ JWT 토큰 검증 + 디코딩 (요청당 1회 호출)
+     * 캐시에 있으면 서명 검증 없이 이전 결과를 돌려준다.
      * @param token JWT 토큰
-     * @return 사용자명
+     * @return 디코딩된 JWT, 유효하지 않으면 null
      */
-    public String getUsernameFromToken(String token) {
+    public DecodedJWT verify(String token) {
+        String digest = digest(token);
+        DecodedJWT cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        
         try {
-            DecodedJWT jwt = verifyToken(token);
-            return jwt.getSubject();
+            DecodedJWT jwt = verifier.verify(token);
+            Instant expiresAt = jwt.getExpiresAtAsInstant();
+            if (expiresAt != null) {
+                verifiedTokens.put(digest, jwt, Duration.between(Instant.now(), expiresAt));
+            }
+            return jwt;
         } catch (JWTVerificationException e) {
             return null;
         }
     }
     
+    /**
+     * 🔍 JWT 토큰에서 사용자명 추출
+     * @param token JWT 토큰
+     * @return 사용자명
+     */
+    public String getUsernameFromToken(String token) {
+        DecodedJWT jwt = verify(token);
+        return jwt != null ? jwt.getSubject() : null;
+    }
+    
     /**
      * 🎭 JWT 토큰에서 권한 목록 추출
      * @param token JWT 토큰
      * @return 권한 목록
      */
     public List<String> getRolesFromToken(String token) {
-        try {
-            DecodedJWT jwt = verifyToken(token);
-            return jwt.getClaim("roles").asList(String.class);
-        } catch (JWTVerificationException e) {
-            return List.of();
-        }
+        DecodedJWT jwt = verify(token);
+        return jwt != null ? jwt.getClaim(ROLES_CLAIM).asList(String.class) : List.of();
     }
     
     /**
@@ -82,24 +128,22 @@ public class JwtUtil {
      * @return 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token) {
-        try {
-            verifyToken(token);
-            return true;
-        } catch (JWTVerificationException e) {
-            return false;
-        }
+        return verify(token) != null;
+    }
+    
+    public LocalCache.Stats cacheStats() {
+        return verifiedTokens.stats();
     }
     
     /**
-     * 🔐 JWT 토큰 검증 및 디코딩
-     * @param token JWT 토큰
-     * @return 디코딩된 JWT 객체
-     * @throws JWTVerificationException 토큰이 유효하지 않은 경우
+     * 🔑 캐시 키용 토큰 다이제스트 (토큰 원문을 메모리에 키로 들고 있지 않도록)
      */
-    private DecodedJWT verifyToken(String token) throws JWTVerificationException {
-        JWTVerifier verifier = JWT.require(algorithm)
-            .withIssuer("toy-board-app")
-            .build();
-        return verifier.verify(token);
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-} 
\ No newline at end of file
+}
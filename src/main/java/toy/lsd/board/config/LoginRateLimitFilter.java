@@ -0,0 +1,164 @@
+package toy.lsd.board.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import toy.lsd.board.auth.controller.AuthController;
+import toy.lsd.board.common.ClientAddress;
+import toy.lsd.board.common.TokenBucketLimiter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🚦 로그인 시도 제한 필터 (POST /api/auth/login)
+ *
+ * 클라이언트 주소별, 로그인 ID별 토큰 버킷을 두고 한도를 넘은 시도는
+ * 회원 조회나 BCrypt 해시 전에 429 (Retry-After) 로 돌려보낸다.
+ * 주소 검사는 본문을 읽기 전에, 로그인 ID 검사는 본문을 한 번 읽어 ID만 꺼낸 뒤 한다.
+ * (읽은 본문은 그대로 컨트롤러에 다시 넘겨준다)
+ * Spring Security 필터 체인(-100)보다 먼저 실행된다.
+ */
+@Component
+@Order(-200)
+public class LoginRateLimitFilter implements WebFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ClientAddress clientAddress;
+    private final boolean enabled;
+    private final TokenBucketLimiter perAddress;
+    private final TokenBucketLimiter perLoginId;
+
+    public LoginRateLimitFilter(
+            ObjectMapper objectMapper,
+            ClientAddress clientAddress,
+            @Value("${auth.login-rate-limit.enabled:true}") boolean enabled,
+            @Value("${auth.login-rate-limit.per-address.capacity:20}") int addressCapacity,
+            @Value("${auth.login-rate-limit.per-address.refill-interval:3s}") Duration addressRefillInterval,
+            @Value("${auth.login-rate-limit.per-login-id.capacity:5}") int loginIdCapacity,
+            @Value("${auth.login-rate-limit.per-login-id.refill-interval:12s}") Duration loginIdRefillInterval,
+            @Value("${auth.login-rate-limit.max-keys:100000}") int maxKeys) {
+        this.objectMapper = objectMapper;
+        this.clientAddress = clientAddress;
+        this.enabled = enabled;
+        this.perAddress = new TokenBucketLimiter("login-per-address", addressCapacity, addressRefillInterval, maxKeys);
+        this.perLoginId = new TokenBucketLimiter("login-per-id", loginIdCapacity, loginIdRefillInterval, maxKeys);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!enabled || request.getMethod() != HttpMethod.POST || !LOGIN_PATH.equals(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        // 1. 클라이언트 주소별 제한 (본문을 읽기 전)
+        long addressWait = perAddress.tryAcquire(clientAddress.resolve(request));
+        if (addressWait > 0) {
+            return reject(exchange, addressWait);
+        }
+
+        // 2. 로그인 ID별 제한 - 본문을 한 번 읽어 ID만 꺼내고 요청에는 다시 채워 넘긴다
+        return DataBufferUtils.join(request.getBody(), MAX_BODY_BYTES)
+            .onErrorMap(DataBufferLimitException.class, e -> new IllegalArgumentException("Login request body too large"))
+            .map(buffer -> {
+                byte[] body = new byte[buffer.readableByteCount()];
+                buffer.read(body);
+                DataBufferUtils.release(buffer);
+                return body;
+            })
+            // 본문이 없으면 그대로 진행 (컨트롤러가 400 처리)
+            .defaultIfEmpty(new byte[0])
+            .flatMap(body -> {
+                if (body.length == 0) {
+                    return chain.filter(exchange);
+                }
+                String loginId = extractLoginId(body);
+                if (loginId != null) {
+                    long loginIdWait = perLoginId.tryAcquire(loginId);
+                    if (loginIdWait > 0) {
+                        return reject(exchange, loginIdWait);
+                    }
+                }
+                return chain.filter(exchange.mutate().request(withBody(request, exchange, body)).build());
+            });
+    }
+
+    /**
+     * 🔍 로그인 요청 본문에서 ID 추출 (형식이 맞지 않으면 null → 컨트롤러가 처리)
+     */
+    private String extractLoginId(byte[] body) {
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            JsonNode id = root != null ? root.get("id") : null;
+            if (id == null || !id.isTextual() || id.asText().isBlank()) {
+                return null;
+            }
+            return id.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static ServerHttpRequest withBody(ServerHttpRequest request, ServerWebExchange exchange, byte[] body) {
+        return new ServerHttpRequestDecorator(request) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return Flux.defer(() -> Flux.just(exchange.getResponse().bufferFactory().wrap(body)));
+            }
+        };
+    }
+
+    /**
+     * ⛔ 429 Too Many Requests 응답 (Retry-After: 다음 토큰까지 남은 초)
+     */
+    private Mono<Void> reject(ServerWebExchange exchange, long waitNanos) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos - 1) + 1)));
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(new AuthController.LoginResponse(null, null, null, "Too many login attempts"));
+        } catch (JsonProcessingException e) {
+            body = new byte[0];
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    public Stats stats() {
+        return new Stats(enabled, perAddress.stats(), perLoginId.stats());
+    }
+
+    /**
+     * 📈 로그인 시도 제한 지표
+     * @param enabled 제한 사용 여부
+     * @param perAddress 클라이언트 주소별 버킷 지표
+     * @param perLoginId 로그인 ID별 버킷 지표
+     */
+    public record Stats(boolean enabled, TokenBucketLimiter.Stats perAddress, TokenBucketLimiter.Stats perLoginId) {}
+}
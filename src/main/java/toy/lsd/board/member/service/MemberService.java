@@ -3,7 +3,6 @@ package toy.lsd.board.member.service;
 import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 import toy.lsd.board.member.entity.Member;
@@ -17,11 +16,11 @@ import toy.lsd.board.member.repository.MemberRepository;
 public class MemberService implements ReactiveUserDetailsService {
     
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;  // BCrypt 는 전용 실행기에서
     
-    public MemberService(MemberRepository memberRepository, PasswordEncoder passwordEncoder) {
+    public MemberService(MemberRepository memberRepository, PasswordHasher passwordHasher) {
         this.memberRepository = memberRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
     }
     
     /**
@@ -48,14 +47,16 @@ public class MemberService implements ReactiveUserDetailsService {
     
     /**
      * 📝 회원 가입
+     * 비밀번호 암호화는 이벤트 루프가 아닌 해시 전용 실행기에서 수행
      */
     public Mono<Member> createMember(String id, String name, String password, String role) {
-        Member member = new Member(
-            id,    // 로그인 ID
-            name,  // 사용자 실제 이름
-            passwordEncoder.encode(password), // 비밀번호 암호화
-            role
-        );
-        return memberRepository.save(member);
+        return passwordHasher.encode(password)  // 비밀번호 암호화
+            .map(encodedPassword -> new Member(
+                id,    // 로그인 ID
+                name,  // 사용자 실제 이름
+                encodedPassword,
+                role
+            ))
+            .flatMap(memberRepository::save);
     }
 } 
\ No newline at end of file
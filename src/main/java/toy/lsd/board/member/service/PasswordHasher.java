@@ -0,0 +1,171 @@
+package toy.lsd.board.member.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 🔒 비밀번호 해시 전용 실행기
+ *
+ * BCrypt 는 일부러 느린 연산이라 이벤트 루프에서 돌리면 같은 루프의 다른 요청이 모두 멈춘다.
+ * 크기가 고정된 스레드 풀과 길이 제한 큐에서 해시를 수행하고,
+ * 큐가 가득 차면 기다리지 않고 바로 503 으로 거절한다.
+ * 스레드는 플랫폼 스레드 또는 가상 스레드 중에서 고를 수 있다 (동시 실행 수는 threads 로 동일하게 제한).
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final boolean virtualThreads;
+
+    // 해시 지표
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    private final LongAdder hashNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Value("${member.password-hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${member.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${member.password-hashing.virtual-threads:false}") boolean virtualThreads) {
+        this.passwordEncoder = passwordEncoder;
+        this.virtualThreads = virtualThreads;
+        this.executor = new ThreadPoolExecutor(
+            threads, threads,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            threadFactory(virtualThreads),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    private static ThreadFactory threadFactory(boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name("password-hash-v-", 0).factory();
+        }
+        AtomicInteger index = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * 🔍 비밀번호 확인 (BCrypt matches)
+     * @return 일치 여부 (큐가 가득 차면 503 ResponseStatusException)
+     */
+    public Mono<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 🔐 비밀번호 암호화 (BCrypt encode)
+     * @return 암호화된 비밀번호 (큐가 가득 차면 503 ResponseStatusException)
+     */
+    public Mono<String> encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    private <T> Mono<T> submit(Supplier<T> task) {
+        return Mono.create(sink -> {
+            long enqueuedAt = System.nanoTime();
+            Future<?> future;
+            try {
+                future = executor.submit(() -> {
+                    long startedAt = System.nanoTime();
+                    record(queueWaitNanos, maxQueueWaitNanos, startedAt - enqueuedAt);
+                    try {
+                        T result = task.get();
+                        record(hashNanos, maxHashNanos, System.nanoTime() - startedAt);
+                        completed.increment();
+                        sink.success(result);
+                    } catch (RuntimeException e) {
+                        sink.error(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                sink.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Password hashing is busy, retry later"));
+                return;
+            }
+            // 요청이 취소되면 아직 시작 전인 해시는 건너뛴다
+            sink.onCancel(() -> future.cancel(false));
+        });
+    }
+
+    private static void record(LongAdder total, AtomicLong max, long nanos) {
+        total.add(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    public Stats stats() {
+        long completedCount = completed.sum();
+        return new Stats(
+            virtualThreads ? "virtual" : "platform",
+            executor.getMaximumPoolSize(),
+            executor.getQueue().size() + executor.getQueue().remainingCapacity(),
+            executor.getActiveCount(),
+            executor.getQueue().size(),
+            completedCount,
+            rejected.sum(),
+            completedCount == 0 ? 0 : queueWaitNanos.sum() / 1_000_000.0 / completedCount,
+            maxQueueWaitNanos.get() / 1_000_000.0,
+            completedCount == 0 ? 0 : hashNanos.sum() / 1_000_000.0 / completedCount,
+            maxHashNanos.get() / 1_000_000.0
+        );
+    }
+
+    /**
+     * 📈 비밀번호 해시 지표
+     * @param threadMode 스레드 종류 (platform, virtual)
+     * @param threads 동시 해시 스레드 수
+     * @param queueCapacity 대기 큐 크기
+     * @param active 해시 중인 작업 수
+     * @param queued 대기 중인 작업 수
+     * @param completed 완료된 해시 수
+     * @param rejected 큐가 가득 차 503 으로 거절된 요청 수
+     * @param avgQueueWaitMillis 평균 큐 대기 시간
+     * @param maxQueueWaitMillis 최대 큐 대기 시간
+     * @param avgHashMillis 평균 해시 시간
+     * @param maxHashMillis 최대 해시 시간
+     */
+    public record Stats(
+        String threadMode,
+        int threads,
+        int queueCapacity,
+        int active,
+        int queued,
+        long completed,
+        long rejected,
+        double avgQueueWaitMillis,
+        double maxQueueWaitMillis,
+        double avgHashMillis,
+        double maxHashMillis
+    ) {}
+}
@@ -0,0 +1,11 @@
+-- 게시글별 댓글 수 카운터 (목록/상세에서 COUNT(*) 대신 사용)
+-- 댓글 작성과 같은 트랜잭션에서 +1 한다 (CommentService.addComment)
+CREATE TABLE IF NOT EXISTS board_comment_count (
+    board_id      BIGINT NOT NULL PRIMARY KEY,
+    comment_count BIGINT NOT NULL DEFAULT 0
+);
+
+-- 최초 1회 백필
+-- INSERT INTO board_comment_count (board_id, comment_count)
+-- SELECT board_id, COUNT(*) FROM comment GROUP BY board_id
+-- ON DUPLICATE KEY UPDATE comment_count = VALUES(comment_count);
@@ -0,0 +1,6 @@
+-- 게시글별 고유 조회자 HyperLogLog 스케치 (precision 12 → 2 + 4096 bytes)
+CREATE TABLE IF NOT EXISTS board_unique_viewer (
+    board_id      BIGINT        NOT NULL PRIMARY KEY,
+    sketch        VARBINARY(4098) NOT NULL,
+    modified_ymdt DATETIME      NOT NULL
+);
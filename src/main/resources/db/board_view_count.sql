@@ -0,0 +1,13 @@
+-- 게시글별 조회수 카운터 (correlated COUNT(*) 대체)
+CREATE TABLE IF NOT EXISTS board_view_count (
+    board_id   BIGINT NOT NULL PRIMARY KEY,
+    view_count BIGINT NOT NULL DEFAULT 0
+);
+
+-- 백필/정합성 보정 집계용
+CREATE INDEX idx_board_view_log_board_id ON board_view_log (board_id);
+
+-- 최초 1회 백필 (POST /api/admin/boards/view-counts/backfill 과 동일)
+-- INSERT INTO board_view_count (board_id, view_count)
+-- SELECT board_id, COUNT(*) FROM board_view_log GROUP BY board_id
+-- ON DUPLICATE KEY UPDATE view_count = VALUES(view_count);
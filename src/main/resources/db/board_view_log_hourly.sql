@@ -0,0 +1,7 @@
+-- 보존 기간이 지난 조회 로그의 게시글/시간 단위 집계
+CREATE TABLE IF NOT EXISTS board_view_log_hourly (
+    board_id   BIGINT   NOT NULL,
+    hour_ymdt  DATETIME NOT NULL,
+    view_count BIGINT   NOT NULL,
+    PRIMARY KEY (board_id, hour_ymdt)
+);
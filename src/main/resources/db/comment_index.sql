@@ -0,0 +1,3 @@
+-- 댓글 키셋 페이지네이션 / 최근 댓글 조회용 복합 인덱스
+-- WHERE board_id = ? AND (registered_ymdt, id) < (?, ?) ORDER BY registered_ymdt DESC, id DESC
+CREATE INDEX idx_comment_board_registered ON comment (board_id, registered_ymdt, id);
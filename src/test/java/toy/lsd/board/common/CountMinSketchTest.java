@@ -0,0 +1,57 @@
+package toy.lsd.board.common;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Count-Min Sketch / HeavyHitters 로 상위 빈도 키를 고르는지 확인
+ */
+public class CountMinSketchTest {
+
+	@Test
+	public void estimateNeverUnderCounts() {
+		CountMinSketch sketch = new CountMinSketch(4, 1024);
+		for (long key = 0; key < 5_000; key++) {
+			for (int i = 0; i < key % 7; i++) {
+				sketch.addAndEstimate(key);
+			}
+		}
+
+		for (long key = 0; key < 5_000; key++) {
+			assertThat(sketch.estimate(key), greaterThanOrEqualTo((int) (key % 7)));
+		}
+	}
+
+	@Test
+	public void heavyHittersKeepMostFrequentKeys() {
+		CountMinSketch sketch = new CountMinSketch(4, 1024);
+		HeavyHitters heavyHitters = new HeavyHitters(3);
+
+		// 1, 2, 3 번 키는 자주, 나머지는 한 번씩
+		for (int round = 0; round < 100; round++) {
+			for (long hot = 1; hot <= 3; hot++) {
+				heavyHitters.offer(hot, sketch.addAndEstimate(hot));
+			}
+			long cold = 1_000 + round;
+			heavyHitters.offer(cold, sketch.addAndEstimate(cold));
+		}
+
+		List<Long> keys = heavyHitters.snapshot().stream()
+			.map(HeavyHitters.Candidate::key)
+			.toList();
+		assertThat(keys, containsInAnyOrder(1L, 2L, 3L));
+	}
+
+	@Test
+	public void clearResetsCounters() {
+		CountMinSketch sketch = new CountMinSketch(2, 64);
+		sketch.addAndEstimate(42L);
+		sketch.clear();
+
+		assertThat(sketch.estimate(42L), is(0));
+	}
+}
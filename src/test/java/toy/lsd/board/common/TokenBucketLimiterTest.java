@@ -0,0 +1,105 @@
+package toy.lsd.board.common;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * 토큰 버킷(GCRA) 허용/거절 계산과 버킷 밀어내기 규칙 확인
+ */
+public class TokenBucketLimiterTest {
+	private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+	private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+	@Test
+	public void allowsBurstUpToCapacityThenRejects() {
+		TokenBucketLimiter limiter = new TokenBucketLimiter("test", 3, Duration.ofSeconds(1), 1_000, clock::get);
+
+		assertThat(limiter.tryAcquire("alice"), is(0L));
+		assertThat(limiter.tryAcquire("alice"), is(0L));
+		assertThat(limiter.tryAcquire("alice"), is(0L));
+		assertThat(limiter.tryAcquire("alice"), is(SECOND));  // 다음 토큰까지 1초
+
+		TokenBucketLimiter.Stats stats = limiter.stats();
+		assertThat(stats.allowed(), is(3L));
+		assertThat(stats.rejected(), is(1L));
+	}
+
+	@Test
+	public void refillsOneTokenPerInterval() {
+		TokenBucketLimiter limiter = new TokenBucketLimiter("test", 2, Duration.ofSeconds(10), 1_000, clock::get);
+		limiter.tryAcquire("alice");
+		limiter.tryAcquire("alice");
+
+		clock.addAndGet(4 * SECOND);
+		assertThat(limiter.tryAcquire("alice"), is(6 * SECOND));
+
+		clock.addAndGet(6 * SECOND);
+		assertThat(limiter.tryAcquire("alice"), is(0L));
+		assertThat(limiter.tryAcquire("alice"), is(10 * SECOND));
+
+		// 오래 쉬어도 capacity 이상 쌓이지 않는다
+		clock.addAndGet(1_000 * SECOND);
+		assertThat(limiter.tryAcquire("alice"), is(0L));
+		assertThat(limiter.tryAcquire("alice"), is(0L));
+		assertThat(limiter.tryAcquire("alice"), greaterThan(0L));
+	}
+
+	@Test
+	public void keysHaveIndependentBuckets() {
+		TokenBucketLimiter limiter = new TokenBucketLimiter("test", 1, Duration.ofSeconds(1), 1_000, clock::get);
+
+		assertThat(limiter.tryAcquire("alice"), is(0L));
+		assertThat(limiter.tryAcquire("alice"), greaterThan(0L));
+		assertThat(limiter.tryAcquire("bob"), is(0L));
+	}
+
+	@Test
+	public void newKeysDoNotEvictThrottledBuckets() {
+		// 조각당 1개만 추적 → 같은 조각의 새 키는 기존 버킷을 밀어내야 추적될 수 있다
+		TokenBucketLimiter limiter = new TokenBucketLimiter("test", 1, Duration.ofSeconds(60), 16, clock::get);
+		assertThat(limiter.tryAcquire("victim"), is(0L));
+
+		// 새 키는 추적 없이 허용된다 (버킷이 없으므로 매번 허용)
+		String sameStripe = keyInSameStripe("victim");
+		assertThat(limiter.tryAcquire(sameStripe), is(0L));
+		assertThat(limiter.tryAcquire(sameStripe), is(0L));
+
+		TokenBucketLimiter.Stats stats = limiter.stats();
+		assertThat(stats.untracked(), is(2L));
+		assertThat(stats.evictions(), is(0L));
+		assertThat(stats.activeBuckets(), is(1L));
+
+		// 제한 중인 버킷은 초기화되지 않는다
+		assertThat(limiter.tryAcquire("victim"), greaterThan(0L));
+	}
+
+	@Test
+	public void refilledBucketsAreEvictedForNewKeys() {
+		TokenBucketLimiter limiter = new TokenBucketLimiter("test", 1, Duration.ofSeconds(60), 16, clock::get);
+		limiter.tryAcquire("victim");
+
+		clock.addAndGet(60 * SECOND);
+		String sameStripe = keyInSameStripe("victim");
+		assertThat(limiter.tryAcquire(sameStripe), is(0L));
+
+		TokenBucketLimiter.Stats stats = limiter.stats();
+		assertThat(stats.evictions(), is(1L));
+		assertThat(stats.activeBuckets(), is(1L));
+	}
+
+	private static String keyInSameStripe(String key) {
+		int stripe = (key.hashCode() & 0x7fffffff) % 16;
+		for (int i = 0; ; i++) {
+			String candidate = "key-" + i;
+			if ((candidate.hashCode() & 0x7fffffff) % 16 == stripe) {
+				return candidate;
+			}
+		}
+	}
+}